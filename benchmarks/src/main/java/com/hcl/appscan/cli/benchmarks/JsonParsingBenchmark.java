@@ -0,0 +1,86 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.hcl.appscan.cli.metadata.MetadataPage;
+import com.hcl.appscan.cli.polling.ScanSnapshot;
+import org.apache.wink.json4j.JSONArray;
+import org.apache.wink.json4j.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the scan details, which is done on every status check, and of the application list, at the sizes of
+ * small and large tenants. The list is parsed both the way the SDK does it (a json4j tree) and the way the CLI's list
+ * commands do it (streamed with Jackson).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonParsingBenchmark {
+
+	@Param({ "100", "10000" })
+	public int applications;
+
+	private final JsonFactory m_jsonFactory = new JsonFactory();
+	private String m_scanDetails;
+	private String m_applicationArray;
+	private String m_applicationPage;
+
+	@Setup
+	public void setUp() {
+		m_scanDetails = Payloads.scanDetails("Running", 40); //$NON-NLS-1$
+		m_applicationArray = Payloads.applications(applications, false);
+		m_applicationPage = Payloads.applications(applications, true);
+	}
+
+	@Benchmark
+	public ScanSnapshot scanDetailsSnapshot() throws Exception {
+		return ScanSnapshot.of(new JSONObject(m_scanDetails));
+	}
+
+	@Benchmark
+	public JSONArray applicationListJson4j() throws Exception {
+		return new JSONArray(m_applicationArray);
+	}
+
+	@Benchmark
+	public MetadataPage applicationListStreamed() throws Exception {
+		try (JsonParser parser = m_jsonFactory.createParser(m_applicationPage)) {
+			return MetadataPage.read(parser);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.benchmarks;
+
+/**
+ * JSON payloads shaped like the ones the AppScan service returns, for the benchmarks.
+ */
+final class Payloads {
+
+	private Payloads() {
+	}
+
+	/**
+	 * @param status The status of the latest execution.
+	 * @param progress The progress of the latest execution.
+	 * @return The details of a dynamic scan, with the fields the service returns (about 2 KB).
+	 */
+	static String scanDetails(String status, int progress) {
+		return "{\"Id\":\"6f1c3a52-8b0e-4d5e-9a41-0c2f9b7d4e11\",\"Name\":\"Nightly DAST payments-web_2026-10-18_02-00-00\"," //$NON-NLS-1$
+				+ "\"AppId\":\"2a9d64c7-5f3b-4c0e-8e21-7b4a1f0c9d32\",\"AppName\":\"payments-web\",\"Technology\":\"DynamicAnalyzer\"," //$NON-NLS-1$
+				+ "\"IsMobile\":false,\"CreatedAt\":\"2026-10-18T02:00:03.117Z\",\"LastModified\":\"2026-10-18T02:41:55.402Z\"," //$NON-NLS-1$
+				+ "\"CreatedBy\":{\"Id\":\"c3e7d1a0-4b2f-4f8e-b6d9-2e0a5c8f7b14\",\"FirstName\":\"Build\",\"LastName\":\"Agent\"," //$NON-NLS-1$
+				+ "\"UserName\":\"build.agent@example.com\",\"Email\":\"build.agent@example.com\"}," //$NON-NLS-1$
+				+ "\"LatestExecution\":{\"Id\":\"0b8e2f6d-1c4a-4e3b-9f75-6d2a8c1e0f93\",\"IsIncremental\":false,\"IsRetest\":false," //$NON-NLS-1$
+				+ "\"IsFullyAutomatic\":true,\"CreatedAt\":\"2026-10-18T02:00:03.117Z\",\"ScanStartTime\":\"2026-10-18T02:01:10.000Z\"," //$NON-NLS-1$
+				+ "\"ScanEndTime\":null,\"ExecutionDurationSec\":" + (progress * 25) + ",\"Status\":\"" + status + "\"," //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "\"ExecutionProgress\":\"" + status + "\",\"UserMessage\":\"\",\"Progress\":" + progress + "," //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "\"NIssuesFound\":42,\"NCriticalIssues\":1,\"NHighIssues\":6,\"NMediumIssues\":13,\"NLowIssues\":17,\"NInfoIssues\":5," //$NON-NLS-1$
+				+ "\"NRequestsSent\":18234,\"NPagesTested\":612,\"NPagesFound\":655,\"NTestsSent\":16020," //$NON-NLS-1$
+				+ "\"HasNewIssues\":true,\"ScanManagerSettings\":{\"ScanType\":\"Production\",\"TestOptimizationLevel\":\"Fast\"," //$NON-NLS-1$
+				+ "\"StartingUrl\":\"https://payments.example.com/\",\"LoginType\":\"Automatic\",\"PresenceId\":null}}," //$NON-NLS-1$
+				+ "\"RescanAllowed\":true,\"EnableMailNotification\":false,\"Locale\":\"en-US\",\"FullyAutomatic\":true," //$NON-NLS-1$
+				+ "\"Tags\":[\"nightly\",\"payments\",\"release-2026.10\"],\"ScanConfiguration\":{\"Target\":{\"StartingUrl\":" //$NON-NLS-1$
+				+ "\"https://payments.example.com/\",\"AdditionalDomains\":[\"https://api.payments.example.com/\"]}," //$NON-NLS-1$
+				+ "\"Login\":{\"LoginType\":\"Automatic\",\"UserName\":\"scanner\",\"Password\":\"********\"}," //$NON-NLS-1$
+				+ "\"Tests\":{\"TestOptimizationLevel\":\"Fast\",\"TestPolicy\":\"Default.policy\"}}}"; //$NON-NLS-1$
+	}
+
+	/**
+	 * @param count The number of applications.
+	 * @param wrapped True for an object with Items and Count, as returned when the count is requested; false for an array.
+	 * @return A list of applications with the fields the CLI selects.
+	 */
+	static String applications(int count, boolean wrapped) {
+		StringBuilder json = new StringBuilder(count * 90 + 32);
+		json.append(wrapped ? "{\"Items\":[" : "["); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append(String.format("{\"Id\":\"%08x-5f3b-4c0e-8e21-%012x\",\"Name\":\"business-unit-%d application %d\"}", i, i * 7919L, i % 40, i)); //$NON-NLS-1$
+		}
+		json.append(']');
+		if (wrapped) {
+			json.append(",\"Count\":").append(count).append('}'); //$NON-NLS-1$
+		}
+		return json.toString();
+	}
+}
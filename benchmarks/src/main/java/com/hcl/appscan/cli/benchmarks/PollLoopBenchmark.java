@@ -0,0 +1,148 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.benchmarks;
+
+import com.hcl.appscan.cli.polling.AdaptivePollScheduler;
+import com.hcl.appscan.cli.polling.ConnectivityMonitor;
+import com.hcl.appscan.cli.polling.PollScheduler;
+import com.hcl.appscan.cli.polling.RateLimiter;
+import com.hcl.appscan.cli.polling.ScanMonitor;
+import com.hcl.appscan.cli.polling.ScanPoller;
+import com.hcl.appscan.cli.polling.ScanSnapshot;
+import com.hcl.appscan.sdk.scan.IScanServiceProvider;
+import org.apache.wink.json4j.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The status check loop that invokedynamicscan and waitforscan run while a scan is active, from queued to ready, with
+ * the service replaced by a provider that returns the scan details at once. Each status check parses the details,
+ * derives the snapshot, computes the next delay and runs the same progress listener as the CLI; the delay itself is
+ * not waited. The background connectivity probe is not started.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PollLoopBenchmark {
+
+	/** The number of status checks before the scan is ready. */
+	@Param({ "10", "200" })
+	public int checks;
+
+	private String[] m_details;
+	private ScanMonitor m_monitor;
+
+	@Setup
+	public void setUp() {
+		m_details = new String[checks];
+		for (int i = 0; i < checks; i++) {
+			if (i == checks - 1) {
+				m_details[i] = Payloads.scanDetails("Ready", 100); //$NON-NLS-1$
+			} else if (i < 2) {
+				m_details[i] = Payloads.scanDetails("InQueue", 0); //$NON-NLS-1$
+			} else {
+				m_details[i] = Payloads.scanDetails("Running", i * 100 / checks); //$NON-NLS-1$
+			}
+		}
+		ConnectivityMonitor connectivity = new ConnectivityMonitor("https://appscan.example.com", false) { //$NON-NLS-1$
+			@Override
+			public ConnectivityMonitor start() {
+				return this;
+			}
+		};
+		m_monitor = new ScanMonitor(connectivity, RateLimiter.unlimited());
+	}
+
+	@TearDown
+	public void tearDown() {
+		m_monitor.close();
+	}
+
+	@Benchmark
+	public ScanSnapshot pollUntilReady(Blackhole blackhole) throws InterruptedException {
+		ScanPoller poller = new ScanPoller("6f1c3a52-8b0e-4d5e-9a41-0c2f9b7d4e11", newServiceProvider()); //$NON-NLS-1$
+		PollScheduler scheduler = new NoWaitScheduler(new AdaptivePollScheduler(5, 120, 1.5, 0.2), blackhole);
+		String[] loggedStatus = new String[1];
+		return m_monitor.await(poller, scheduler, current -> {
+			String status = ScanMonitor.getStatus(current);
+			if (!status.equalsIgnoreCase(loggedStatus[0])) {
+				loggedStatus[0] = status;
+				blackhole.consume(status);
+			}
+			if (current.hasExecution()) {
+				int duration = current.getDurationSec();
+				blackhole.consume(String.format("%02dm %02ds", duration / 60, duration % 60)); //$NON-NLS-1$
+			}
+		});
+	}
+
+	// A provider that returns the next scan details on each request. Only the methods the poller calls are answered,
+	// so that the stub does not depend on the rest of the SDK interface.
+	private IScanServiceProvider newServiceProvider() {
+		int[] next = new int[1];
+		return (IScanServiceProvider) Proxy.newProxyInstance(IScanServiceProvider.class.getClassLoader(), new Class<?>[] { IScanServiceProvider.class },
+				(proxy, method, args) -> {
+					if (method.getName().equals("getScanDetails")) { //$NON-NLS-1$
+						return new JSONObject(m_details[Math.min(next[0]++, m_details.length - 1)]);
+					}
+					return null;
+				});
+	}
+
+	// Computes the delay of the CLI's scheduler, but does not wait.
+	private static final class NoWaitScheduler implements PollScheduler {
+
+		private final PollScheduler m_scheduler;
+		private final Blackhole m_blackhole;
+
+		NoWaitScheduler(PollScheduler scheduler, Blackhole blackhole) {
+			m_scheduler = scheduler;
+			m_blackhole = blackhole;
+		}
+
+		@Override
+		public long nextDelay(String status, int progress, int durationSec) {
+			m_blackhole.consume(m_scheduler.nextDelay(status, progress, durationSec));
+			return 0;
+		}
+
+		@Override
+		public void reset() {
+			m_scheduler.reset();
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.benchmarks;
+
+import com.hcl.appscan.cli.auth.LoginUtility;
+import com.hcl.appscan.cli.handlers.InvokeDynamicScan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The name clean-up done with regular expressions on every call: report file names, and the client type sent with
+ * every login and scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SanitizeBenchmark {
+
+	private String m_reportName = "Dynamic AnalyzerNightly DAST: payments-web (release 2026.10) #1482_2026-10-18_02-00-00"; //$NON-NLS-1$
+	private String m_clientType = "appscan-cloud-cli-linux-1.2.1-SNAPSHOT (build #1482)"; //$NON-NLS-1$
+
+	@Benchmark
+	public String sanitizeFileName() {
+		return InvokeDynamicScan.sanitizeFileName(m_reportName);
+	}
+
+	@Benchmark
+	public String sanitizeClientType() {
+		return LoginUtility.sanitizeClientType(m_clientType);
+	}
+
+	@Benchmark
+	public String getClientType() {
+		return LoginUtility.getClientType();
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.constants.ScannerConstants;
+import com.hcl.appscan.cli.scanners.DynamicAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import picocli.CommandLine;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the properties of a dynamic scan: the analyzer's own properties, and the full set that invokedynamicscan
+ * passes to the SDK. It is in the handlers package to reach {@code getScanProperties}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScanPropertiesBenchmark {
+
+    private static final String TARGET = "https://payments.example.com/";
+
+    private InvokeDynamicScan command;
+    private CloudAuthenticationHandler authHandler;
+
+    @Setup
+    public void setUp() {
+        command = new InvokeDynamicScan();
+        new CommandLine(command).setCaseInsensitiveEnumValuesAllowed(true).parseArgs("--key=benchmark", "--secret=benchmark",
+                "--appId=2a9d64c7-5f3b-4c0e-8e21-7b4a1f0c9d32", "--scanName=Nightly DAST payments-web", "--target=" + TARGET,
+                "--loginType=Automatic", "--loginUser=scanner", "--loginPassword=secret");
+        authHandler = new CloudAuthenticationHandler("https://appscan.example.com", false);
+    }
+
+    @Benchmark
+    public Map<String, String> analyzerProperties() {
+        return newAnalyzer().getProperties();
+    }
+
+    @Benchmark
+    public Map<String, String> scanProperties() throws Exception {
+        return command.getScanProperties(newAnalyzer(), authHandler);
+    }
+
+    // The same analyzer as invokedynamicscan creates for an automatic login.
+    private static DynamicAnalyzer newAnalyzer() {
+        DynamicAnalyzer analyzer = new DynamicAnalyzer(TARGET);
+        analyzer.setLoginType(ScannerConstants.AUTOMATIC);
+        analyzer.setLoginUser("scanner");
+        analyzer.setLoginPassword("secret");
+        analyzer.setOptimization("fast");
+        analyzer.setScanType("Production");
+        return analyzer;
+    }
+}
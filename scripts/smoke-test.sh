@@ -0,0 +1,124 @@
+#!/bin/sh
+#
+# Copyright 2026 HCL America, Inc.
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+# Runs each subcommand of the CLI against a local stub of the AppScan service (StubAppScanServer, in src/test/java).
+# Its main purpose is to check the native executable: a class, method or resource missing from the native-image
+# configuration only shows up when the code that needs it runs.
+#
+# Usage: scripts/smoke-test.sh [launcher]
+#
+# The launcher is the command that starts the CLI, by default the native executable target/appscan. The stub is run
+# from target/test-classes (run mvn test-compile first) with the java on the PATH. STUB_PORT and SERVE_PORT choose the ports (default 18080 and 18081).
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd -P)
+CLI=${1:-$ROOT/target/appscan}
+STUB_PORT=${STUB_PORT:-18080}
+SERVE_PORT=${SERVE_PORT:-18081}
+WORK=$(mktemp -d)
+# A key that starts with local_ is an AppScan 360° key, for which the CLI uses --serviceUrl. Presences only exist on
+# AppScan on Cloud, where --serviceUrl is used with any key.
+SERVICE="--key=local_smoke --secret=smoke --serviceUrl=http://127.0.0.1:$STUB_PORT"
+CLOUD_SERVICE="--key=smoke --secret=smoke --serviceUrl=http://127.0.0.1:$STUB_PORT"
+# Failures that mean the native-image configuration is incomplete, whatever the exit code.
+NATIVE_ERRORS='MissingReflectionRegistrationError|MissingResourceRegistrationError|MissingResourceException|ClassNotFoundException|NoSuchMethodException|NoClassDefFoundError|ExceptionInInitializerError|UnsupportedFeatureError'
+
+failures=0
+stub=
+serve=
+
+cleanup() {
+    [ -n "$serve" ] && kill "$serve" 2> /dev/null
+    [ -n "$stub" ] && kill "$stub" 2> /dev/null
+    rm -rf "$WORK"
+}
+trap cleanup EXIT
+
+# check NAME EXPECTED_EXIT EXPECTED_TEXT COMMAND...: runs a command and checks its exit code (- for any) and output.
+check() {
+    name=$1 expected=$2 text=$3
+    shift 3
+    "$@" > "$WORK/$name.out" 2>&1
+    status=$?
+    result=ok
+    if grep -Eq "$NATIVE_ERRORS" "$WORK/$name.out"; then
+        result="native-image configuration error"
+    elif [ "$expected" != "-" ] && [ "$status" -ne "$expected" ]; then
+        result="exit code $status, expected $expected"
+    elif [ -n "$text" ] && ! grep -q "$text" "$WORK/$name.out"; then
+        result="output does not contain '$text'"
+    fi
+    echo "$name: $result"
+    if [ "$result" != ok ]; then
+        sed 's/^/    /' "$WORK/$name.out"
+        failures=$((failures + 1))
+    fi
+}
+
+java -cp "$ROOT/target/test-classes" com.hcl.appscan.cli.stub.StubAppScanServer "$STUB_PORT" > "$WORK/stub.out" 2>&1 &
+stub=$!
+i=0
+until grep -q ready "$WORK/stub.out" 2> /dev/null; do
+    i=$((i + 1))
+    if [ $i -gt 60 ]; then
+        echo "The stub server did not start" >&2
+        cat "$WORK/stub.out" >&2
+        exit 2
+    fi
+    sleep 0.5
+done
+
+cat > "$WORK/manifest.json" <<MANIFEST
+{ "defaults": { "appId": "app-1", "pollInterval": "1", "skip": "report,scanLog" },
+  "targets": [ { "scanName": "smoke-1", "target": "http://127.0.0.1:$STUB_PORT/" } ] }
+MANIFEST
+
+check help 0 "getapplications" $CLI --help
+check getapplications 0 "app-1" $CLI getapplications $SERVICE
+check getapplications-csv 0 "app-1" $CLI getapplications $SERVICE --format=csv --pageSize=10
+check getpresenceids 0 "presence-1" $CLI getpresenceids $CLOUD_SERVICE
+check getissues 0 "issue-1" $CLI getissues $SERVICE --scanId=scan-1
+# The stub answers a new scan as running for a few status checks, then as Ready.
+check waitforscan 0 "Finished with status: Completed" $CLI waitforscan $SERVICE --scanId=scan-1 --skip=report,scanLog
+check invokedynamicscan 0 "Finished with status: Completed" $CLI invokedynamicscan $SERVICE --appId=app-1 --scanName=smoke --target=http://127.0.0.1:$STUB_PORT/ --pollInterval=1 --skip=report,scanLog
+check invokebatchscan 0 "1 targets, 1 passed, 0 failed" $CLI invokebatchscan $SERVICE --manifest="$WORK/manifest.json"
+
+$CLI serve --port="$SERVE_PORT" > "$WORK/serve.out" 2>&1 &
+serve=$!
+sleep 2
+check serve 0 "" curl -sf "http://127.0.0.1:$SERVE_PORT/scans"
+kill "$serve" 2> /dev/null
+wait "$serve" 2> /dev/null
+serve=
+if grep -Eq "$NATIVE_ERRORS" "$WORK/serve.out"; then
+    echo "serve: native-image configuration error"
+    sed 's/^/    /' "$WORK/serve.out"
+    failures=$((failures + 1))
+fi
+
+kill "$stub" 2> /dev/null
+wait "$stub" 2> /dev/null
+stub=
+if grep -q unhandled "$WORK/stub.out"; then
+    echo "Requests the stub does not know:"
+    grep unhandled "$WORK/stub.out" | sort -u | sed 's/^/    /'
+fi
+
+if [ $failures -gt 0 ]; then
+    echo "$failures smoke checks failed" >&2
+    exit 1
+fi
+echo "All smoke checks passed"
@@ -0,0 +1,85 @@
+#!/bin/sh
+#
+# Copyright 2026 HCL America, Inc.
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+# Measures the startup time of the CLI: the time a new process takes to print the help of getapplications, which
+# parses the command line and builds the command without any network call.
+#
+# Usage: scripts/startup-benchmark.sh [launcher...]
+#
+# Each launcher is a command that starts the CLI, for example "target/appscan-cli/bin/appscan" or
+# "java -jar target/appscan-cloud-cli-1.2.1-SNAPSHOT.jar". By default the fast-startup distribution is measured,
+# along with the Spring Boot jar when there is one. The median of the runs is reported, and the script fails when the
+# median of the first launcher is above the budget.
+#
+# Environment:
+#   RUNS       Number of timed runs of each launcher (default 10), after one untimed run.
+#   BUDGET_MS  Startup budget in milliseconds for the first launcher (default 300).
+
+RUNS=${RUNS:-10}
+BUDGET_MS=${BUDGET_MS:-300}
+ROOT=$(cd "$(dirname "$0")/.." && pwd -P)
+
+now_ms() {
+    # %N is not supported by every date; fall back to a python clock.
+    n=$(date +%s%N)
+    case "$n" in
+        *N) python3 -c 'import time; print(int(time.time() * 1000))' ;;
+        *) echo $((n / 1000000)) ;;
+    esac
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+measure() {
+    $1 getapplications --help > /dev/null 2>&1
+    i=0
+    while [ $i -lt "$RUNS" ]; do
+        start=$(now_ms)
+        $1 getapplications --help > /dev/null 2>&1
+        end=$(now_ms)
+        echo $((end - start))
+        i=$((i + 1))
+    done | median
+}
+
+if [ $# -eq 0 ]; then
+    if [ ! -x "$ROOT/target/appscan-cli/bin/appscan" ]; then
+        echo "No distribution in target/appscan-cli. Build it with: mvn -Pfast-startup package" >&2
+        exit 2
+    fi
+    set -- "$ROOT/target/appscan-cli/bin/appscan"
+    for jar in "$ROOT"/target/appscan-cloud-cli-*.jar; do
+        if [ -f "$jar" ] && unzip -l "$jar" 2>/dev/null | grep -q "BOOT-INF/"; then
+            set -- "$@" "java -jar $jar"
+        fi
+    done
+fi
+
+status=0
+first=true
+for launcher in "$@"; do
+    ms=$(measure "$launcher")
+    echo "$launcher: median ${ms} ms over $RUNS runs"
+    if $first && [ "$ms" -gt "$BUDGET_MS" ]; then
+        echo "Startup is above the budget of ${BUDGET_MS} ms" >&2
+        status=1
+    fi
+    first=false
+done
+exit $status
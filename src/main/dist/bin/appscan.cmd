@@ -0,0 +1,36 @@
+@rem
+@rem Copyright 2026 HCL America, Inc.
+@rem
+@rem Licensed under the Apache License, Version 2.0 (the "License");
+@rem you may not use this file except in compliance with the License.
+@rem You may obtain a copy of the License at
+@rem
+@rem     http://www.apache.org/licenses/LICENSE-2.0
+@rem
+@rem Unless required by applicable law or agreed to in writing, software
+@rem distributed under the License is distributed on an "AS IS" BASIS,
+@rem WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+@rem See the License for the specific language governing permissions and
+@rem limitations under the License.
+@rem
+
+@rem Starts the AppScan CLI from the fast-startup distribution (mvn -Pfast-startup package).
+
+@echo off
+setlocal
+
+set "APP_HOME=%~dp0.."
+for %%i in ("%APP_HOME%") do set "APP_HOME=%%~fi"
+
+set "JAVA=%APP_HOME%\runtime\bin\java.exe"
+if not exist "%JAVA%" (
+    if defined JAVA_HOME (set "JAVA=%JAVA_HOME%\bin\java.exe") else (set "JAVA=java")
+)
+
+@rem The class data sharing archive is only valid for the runtime and the jar path it was recorded with. After the
+@rem distribution is moved, delete lib\appscan.jsa and the next run records a new one.
+set "JSA=%APP_HOME%\lib\appscan.jsa"
+if exist "%JSA%" (set "CDS=-XX:SharedArchiveFile=%JSA%") else (set "CDS=-XX:ArchiveClassesAtExit=%JSA%")
+
+"%JAVA%" "%CDS%" -Xlog:cds=off,cds+dynamic=off -XX:TieredStopAtLevel=1 %JAVA_OPTS% -jar "%APP_HOME%\lib\appscan-cloud-cli.jar" %*
+exit /b %ERRORLEVEL%
@@ -0,0 +1,103 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.auth;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the authentication state of a {@link CloudAuthenticationHandler}: the API key, the resolved
+ * server url, the bearer token with its expiry, and the authorization headers built from it. A new snapshot is published
+ * whenever the credentials or the token change, so readers never need a lock.
+ */
+public final class AuthState implements Serializable {
+
+	static final AuthState EMPTY = new AuthState(null, null, null, null);
+
+	private final String m_key;
+	private final String m_secret;
+	private final String m_server;
+	private final String m_token;
+	private final long m_expiresAt;
+	private final Map<String, String> m_headers;
+	private final Map<String, String> m_persistentHeaders;
+
+	private AuthState(String key, String secret, String server, String token) {
+		m_key = key;
+		m_secret = secret;
+		m_server = server;
+		m_token = token == null ? "" : token.trim();
+		m_expiresAt = TokenExpiry.fromJwt(m_token);
+
+		Map<String, String> headers = new HashMap<String, String>();
+		headers.put("Authorization", "Bearer " + m_token); //$NON-NLS-1$ //$NON-NLS-2$
+		m_headers = Collections.unmodifiableMap(headers);
+		Map<String, String> persistentHeaders = new HashMap<String, String>(headers);
+		persistentHeaders.put("Connection", "Keep-Alive"); //$NON-NLS-1$ //$NON-NLS-2$
+		m_persistentHeaders = Collections.unmodifiableMap(persistentHeaders);
+	}
+
+	AuthState withCredentials(String key, String secret, String server) {
+		return new AuthState(key, secret, server, null);
+	}
+
+	AuthState withToken(String token) {
+		return new AuthState(m_key, m_secret, m_server, token);
+	}
+
+	public String getKey() {
+		return m_key;
+	}
+
+	String getSecret() {
+		return m_secret;
+	}
+
+	public boolean hasCredentials() {
+		return m_key != null && m_secret != null;
+	}
+
+	/**
+	 * @return The server url resolved when the credentials were set, or null if no credentials are set.
+	 */
+	public String getServer() {
+		return m_server;
+	}
+
+	public String getToken() {
+		return m_token;
+	}
+
+	/**
+	 * @return The token expiry in milliseconds since the epoch, or {@link TokenExpiry#UNKNOWN}.
+	 */
+	public long getExpiresAt() {
+		return m_expiresAt;
+	}
+
+	/**
+	 * @param persist True to include the Keep-Alive header.
+	 * @return The prebuilt, unmodifiable authorization headers.
+	 */
+	public Map<String, String> getHeaders(boolean persist) {
+		return persist ? m_persistentHeaders : m_headers;
+	}
+}
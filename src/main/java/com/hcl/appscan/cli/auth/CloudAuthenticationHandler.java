@@ -24,20 +24,57 @@ import com.hcl.appscan.sdk.auth.LoginType;
 
 
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
 import java.net.Proxy;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Authentication provider for AppScan on Cloud and AppScan 360°. The current credentials, token and authorization
+ * headers are published as an immutable {@link AuthState}, so reading them takes no lock. The lock is per instance and
+ * only taken to log in or refresh the token, so handlers for different API keys never wait on each other.
+ */
 public class CloudAuthenticationHandler implements IAuthenticationProvider, Serializable {
-	private static final Lock lock = new ReentrantLock();
+	// A token is treated as expired this long before its actual expiry, to cover clock skew and request latency.
+	private static final long EXPIRY_MARGIN_MS = TimeUnit.SECONDS.toMillis(30);
+	// Tokens are refreshed in the background this long before they expire (or after 80% of their lifetime, if sooner).
+	private static final long REFRESH_MARGIN_MS = TimeUnit.MINUTES.toMillis(5);
+	private static final ScheduledThreadPoolExecutor refresher = new ScheduledThreadPoolExecutor(1, runnable -> {
+		Thread thread = new Thread(runnable, "appscan-token-refresh");
+		thread.setDaemon(true);
+		return thread;
+	});
+	static {
+		refresher.setRemoveOnCancelPolicy(true);
+	}
+
+	private final Lock lock = new ReentrantLock();
 	private final CloudCredentials cloudCredentials;
+	private final AtomicReference<AuthState> state = new AtomicReference<AuthState>(AuthState.EMPTY);
+	private transient TokenCache tokenCache;
+	private transient AuthenticationHandler authenticationHandler;
+	private transient ScheduledFuture<?> refreshTask;
+	private transient boolean closed;
 	
 	public CloudCredentials getCloudCredentials() {
 		return cloudCredentials;
 	}
 
+	/**
+	 * Sets the cache used to reuse tokens across CLI invocations.
+	 *
+	 * @param tokenCache The token cache, or null to always log in.
+	 */
+	public void setTokenCache(TokenCache tokenCache) {
+		this.tokenCache = tokenCache;
+	}
+
 	public CloudAuthenticationHandler() {
 		this.cloudCredentials = new CloudCredentials(false);
 	}
@@ -45,52 +82,87 @@ public class CloudAuthenticationHandler implements IAuthenticationProvider, Seri
 		this.cloudCredentials = new CloudCredentials(serviceUrl,acceptInvalidCerts);
 
 	}
+
+	/**
+	 * @return The current authentication state.
+	 */
+	public AuthState getAuthState() {
+		return state.get();
+	}
+
+	/**
+	 * @return The expiry time of the current token in milliseconds since the epoch, or {@link TokenExpiry#UNKNOWN}.
+	 */
+	public long getTokenExpiresAt() {
+		return state.get().getExpiresAt();
+	}
+
 	@Override
 	public boolean isTokenExpired() {
+		// Hot path: the token's expiry is known and still ahead, so no request is needed.
+		if (isTokenValidLocally(state.get())) {
+			return false;
+		}
 
 		boolean isExpired = false;
-		AuthenticationHandler handler = new AuthenticationHandler(this);
-		try {
-			isExpired = handler.isTokenExpired();
-		} catch (Exception e) {
-			isExpired = true;
-		}
-		if (isExpired) {
-			lock.lock();
+		AuthenticationHandler handler = getAuthenticationHandler();
+		if (state.get().getExpiresAt() == TokenExpiry.UNKNOWN) {
 			try {
 				isExpired = handler.isTokenExpired();
 			} catch (Exception e) {
 				isExpired = true;
 			}
-			if (isExpired) {
-				try {
-					isExpired = !handler.login(cloudCredentials.getKey(), cloudCredentials.getSecret(), false, LoginType.ASoC_Federated, cloudCredentials.getClientType());
-				} catch (Exception e) {
-					isExpired = true;
+		} else {
+			isExpired = true;
+		}
+		if (isExpired) {
+			lock.lock();
+			try {
+				// Another thread may have refreshed the token while this one was waiting.
+				AuthState current = state.get();
+				if (isTokenValidLocally(current)) {
+					return false;
+				}
+				if (current.getExpiresAt() == TokenExpiry.UNKNOWN) {
+					try {
+						isExpired = handler.isTokenExpired();
+					} catch (Exception e) {
+						isExpired = true;
+					}
+				}
+				if (isExpired) {
+					isExpired = !refreshToken();
 				}
+			} finally {
+				lock.unlock();
 			}
-			lock.unlock();
 		}
 		return isExpired;
 	}
 
+	/**
+	 * Returns a modifiable copy of the prebuilt authorization headers. The copy is needed because the callers of
+	 * {@link com.hcl.appscan.sdk.auth.IAuthenticationProvider} add their own headers to the returned map, as the AppScan
+	 * SDK and {@link com.hcl.appscan.cli.scanners.ValidationUtil#isValidUrl} do with Content-Type. AuthorizationHeaderBenchmark
+	 * compares its cost with the prebuilt map; callers that only read the headers should use
+	 * {@link AuthState#getHeaders(boolean)} instead.
+	 */
 	@Override
 	public Map<String, String> getAuthorizationHeader(boolean persist) {
-		Map<String, String> headers = new HashMap<String, String>();
-		headers.put("Authorization", "Bearer " + cloudCredentials.getToken().trim());  //$NON-NLS-2$
-		if (persist)
-			headers.put("Connection", "Keep-Alive");  //$NON-NLS-2$
-		return headers;
+		return new HashMap<String, String>(state.get().getHeaders(persist));
 	}
 
 	@Override
 	public String getServer() {
-		return cloudCredentials.getServer();
+		String server = state.get().getServer();
+		return server != null ? server : cloudCredentials.getServer();
 	}
 
 	@Override
 	public void saveConnection(String token) {
 		cloudCredentials.setToken(token);
+		state.updateAndGet(current -> current.withToken(token));
+		scheduleRefresh();
 	}
 
 	@Override
@@ -107,11 +179,18 @@ public class CloudAuthenticationHandler implements IAuthenticationProvider, Seri
 		if (key == null || key.equals("") || secret == null || secret.length() == 0) return false;
 		lock.lock();
 		Credentials credentials = LoginUtility.getCredentialsObject(key, secret);
-		AuthenticationHandler handler = new AuthenticationHandler(this);
+		AuthenticationHandler handler = getAuthenticationHandler();
 		boolean b;
 		try {
 			this.cloudCredentials.updateCredentials(key, secret);
+			state.set(state.get().withCredentials(key, secret, cloudCredentials.getServer()));
+			if (loadCachedToken(handler)) {
+				return true;
+			}
 			b = handler.login(credentials.getKey(),credentials.getSecret(), true, LoginType.ASoC_Federated, cloudCredentials.getClientType() );
+			if (b && tokenCache != null) {
+				tokenCache.store(key, secret, getServer(), state.get().getToken());
+			}
 
 		} catch (Exception e) {
 			throw e;
@@ -121,4 +200,99 @@ public class CloudAuthenticationHandler implements IAuthenticationProvider, Seri
 		return b;
 	}
 
+	// Uses the cached token if the service still accepts it.
+	private boolean loadCachedToken(AuthenticationHandler handler) {
+		if (tokenCache == null) {
+			return false;
+		}
+		AuthState current = state.get();
+		String token = tokenCache.load(current.getKey(), current.getSecret(), current.getServer());
+		if (token == null) {
+			return false;
+		}
+		saveConnection(token);
+		try {
+			if (!handler.isTokenExpired()) {
+				return true;
+			}
+		} catch (Exception e) {
+			// Fall back to a fresh login.
+		}
+		tokenCache.remove(current.getKey(), current.getServer());
+		saveConnection(null);
+		return false;
+	}
+
+	private static boolean isTokenValidLocally(AuthState current) {
+		long expiresAt = current.getExpiresAt();
+		return expiresAt != TokenExpiry.UNKNOWN && System.currentTimeMillis() < expiresAt - EXPIRY_MARGIN_MS;
+	}
+
+	private synchronized AuthenticationHandler getAuthenticationHandler() {
+		if (authenticationHandler == null) {
+			authenticationHandler = new AuthenticationHandler(this);
+		}
+		return authenticationHandler;
+	}
+
+	// Logs in again with the current credentials. The caller must hold the lock.
+	private boolean refreshToken() {
+		AuthState current = state.get();
+		if (!current.hasCredentials()) {
+			return false;
+		}
+		try {
+			boolean loggedIn = getAuthenticationHandler().login(current.getKey(), current.getSecret(), false, LoginType.ASoC_Federated, cloudCredentials.getClientType());
+			if (loggedIn && tokenCache != null) {
+				tokenCache.store(current.getKey(), current.getSecret(), current.getServer(), state.get().getToken());
+			}
+			return loggedIn;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Stops refreshing the token in the background. Call this when the handler is no longer used; it still logs in
+	 * again on demand if it is.
+	 */
+	public synchronized void close() {
+		closed = true;
+		cancelRefresh();
+	}
+
+	private synchronized void scheduleRefresh() {
+		cancelRefresh();
+		long expiresAt = state.get().getExpiresAt();
+		if (closed || expiresAt == TokenExpiry.UNKNOWN) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		long margin = Math.min(REFRESH_MARGIN_MS, (expiresAt - now) / 5);
+		long delay = Math.max(0, expiresAt - margin - now);
+		// The task only holds the handler weakly, so a handler dropped without close() can still be collected.
+		WeakReference<CloudAuthenticationHandler> handler = new WeakReference<CloudAuthenticationHandler>(this);
+		refreshTask = refresher.schedule(() -> refreshInBackground(handler), delay, TimeUnit.MILLISECONDS);
+	}
+
+	private void cancelRefresh() {
+		if (refreshTask != null) {
+			refreshTask.cancel(false);
+			refreshTask = null;
+		}
+	}
+
+	private static void refreshInBackground(WeakReference<CloudAuthenticationHandler> reference) {
+		CloudAuthenticationHandler handler = reference.get();
+		if (handler == null) {
+			return;
+		}
+		handler.lock.lock();
+		try {
+			handler.refreshToken();
+		} finally {
+			handler.lock.unlock();
+		}
+	}
+
 }
\ No newline at end of file
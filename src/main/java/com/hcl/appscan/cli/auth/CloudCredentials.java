@@ -21,11 +21,8 @@ package com.hcl.appscan.cli.auth;
 
 
 import java.io.Serializable;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 public class CloudCredentials implements Serializable {
-	private static final Lock lock = new ReentrantLock();
 
 	private String serviceUrl;
 
@@ -48,18 +45,26 @@ public class CloudCredentials implements Serializable {
 
 	public void setCredentials(Credentials credentials) {
 		this.credentials = credentials;
+		this.resolvedServer = null;
 	}
 
-	private Credentials credentials;
-	private String token;
+	private volatile Credentials credentials;
+	private volatile String token;
 	private String clientType;
+	// The server resolved from the key, cached until the credentials change.
+	private transient volatile String resolvedServer;
 
 
 	public String getServer() {
 		if(this.serviceUrl!=null){
 			return  serviceUrl;
 		}
-		return LoginUtility.getServer(getKey());
+		String server = resolvedServer;
+		if (server == null) {
+			server = LoginUtility.getServer(getKey());
+			resolvedServer = server;
+		}
+		return server;
 	}
 
 
@@ -84,9 +89,8 @@ public class CloudCredentials implements Serializable {
 	}
 
 	public void updateCredentials(String key, String secret) {
-		lock.lock();
 		this.credentials = new Credentials(key, secret);
-		lock.unlock();
+		this.resolvedServer = null;
 	}
 
 
@@ -0,0 +1,238 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.auth;
+
+import com.hcl.appscan.cli.utils.AtomicFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps bearer tokens on disk between CLI invocations. Entries are keyed by API key ID and server, and the token is
+ * encrypted with AES-GCM using a key derived from the API secret, so only a caller holding the secret can read it back.
+ * Entries are removed once the token has expired.
+ */
+public class TokenCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(TokenCache.class);
+
+	private static final int MAGIC = 0x41534354; // "ASCT"
+	private static final int VERSION = 1;
+	private static final String SUFFIX = ".token";
+	private static final int SALT_LENGTH = 16;
+	private static final int IV_LENGTH = 12;
+	private static final int KDF_ITERATIONS = 10000;
+	// Tokens whose expiry cannot be read from the token itself are kept for this long and validated with the service on use.
+	private static final long DEFAULT_TTL_MS = TimeUnit.MINUTES.toMillis(15);
+	// Tokens this close to expiry are not handed out.
+	private static final long EXPIRY_MARGIN_MS = TimeUnit.MINUTES.toMillis(1);
+
+	private final Path m_directory;
+	private final SecureRandom m_random = new SecureRandom();
+
+	public TokenCache(File directory) {
+		m_directory = directory.toPath();
+	}
+
+	public static File getDefaultDirectory() {
+		return new File(System.getProperty("user.home"), ".appscan" + File.separator + "tokens");
+	}
+
+	/**
+	 * Returns the cached token for the given key and server.
+	 *
+	 * @param key The API key ID.
+	 * @param secret The API key secret.
+	 * @param server The AppScan server url.
+	 * @return The token, or null if none is cached, it has expired, or it cannot be decrypted with the given secret.
+	 */
+	public String load(String key, String secret, String server) {
+		Path file = getFile(key, server);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+			if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+				delete(file);
+				return null;
+			}
+			long expiresAt = in.readLong();
+			if (expiresAt - EXPIRY_MARGIN_MS <= System.currentTimeMillis()) {
+				delete(file);
+				return null;
+			}
+			byte[] salt = in.readNBytes(SALT_LENGTH);
+			byte[] iv = in.readNBytes(IV_LENGTH);
+			byte[] encrypted = in.readAllBytes();
+
+			Cipher cipher = newCipher(Cipher.DECRYPT_MODE, secret, salt, iv);
+			cipher.updateAAD(getAssociatedData(key, server, expiresAt));
+			return new String(cipher.doFinal(encrypted), StandardCharsets.UTF_8);
+		} catch (IOException | GeneralSecurityException e) {
+			// A secret that was rotated, or a corrupt entry. Either way, a fresh login replaces it.
+			logger.debug("Ignoring cached token: " + e.getMessage());
+			delete(file);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores a token for the given key and server, replacing any existing entry.
+	 *
+	 * @param key The API key ID.
+	 * @param secret The API key secret.
+	 * @param server The AppScan server url.
+	 * @param token The token.
+	 */
+	public void store(String key, String secret, String server, String token) {
+		if (token == null || token.isEmpty()) {
+			return;
+		}
+		long expiresAt = TokenExpiry.fromJwt(token);
+		if (expiresAt == TokenExpiry.UNKNOWN) {
+			expiresAt = System.currentTimeMillis() + DEFAULT_TTL_MS;
+		}
+		try {
+			createDirectory();
+			byte[] salt = new byte[SALT_LENGTH];
+			byte[] iv = new byte[IV_LENGTH];
+			m_random.nextBytes(salt);
+			m_random.nextBytes(iv);
+			Cipher cipher = newCipher(Cipher.ENCRYPT_MODE, secret, salt, iv);
+			cipher.updateAAD(getAssociatedData(key, server, expiresAt));
+			byte[] encrypted = cipher.doFinal(token.getBytes(StandardCharsets.UTF_8));
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				out.writeInt(MAGIC);
+				out.writeByte(VERSION);
+				out.writeLong(expiresAt);
+				out.write(salt);
+				out.write(iv);
+				out.write(encrypted);
+			}
+
+			Path file = getFile(key, server);
+			AtomicFile.write(file, AtomicFile.Permissions.Private, bytes.toByteArray());
+		} catch (IOException | GeneralSecurityException e) {
+			logger.debug("Unable to cache the token: " + e.getMessage());
+		}
+		evictExpired();
+	}
+
+	/**
+	 * Removes the entry for the given key and server.
+	 *
+	 * @param key The API key ID.
+	 * @param server The AppScan server url.
+	 */
+	public void remove(String key, String server) {
+		delete(getFile(key, server));
+	}
+
+	/**
+	 * Removes all entries whose token has expired.
+	 */
+	public void evictExpired() {
+		if (!Files.isDirectory(m_directory)) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(m_directory, "*" + SUFFIX)) {
+			for (Path file : files) {
+				try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+					if (in.readInt() != MAGIC || in.readByte() != VERSION || in.readLong() <= now) {
+						delete(file);
+					}
+				} catch (IOException e) {
+					delete(file);
+				}
+			}
+		} catch (IOException e) {
+			// Ignore. Entries are also checked when they are read.
+		}
+	}
+
+	private Path getFile(String key, String server) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest((key + "|" + server).getBytes(StandardCharsets.UTF_8));
+			StringBuilder name = new StringBuilder();
+			for (byte b : hash) {
+				name.append(String.format("%02x", b));
+			}
+			return m_directory.resolve(name + SUFFIX);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void createDirectory() throws IOException {
+		if (Files.isDirectory(m_directory)) {
+			return;
+		}
+		Files.createDirectories(m_directory);
+		try {
+			Files.setPosixFilePermissions(m_directory, PosixFilePermissions.fromString("rwx------"));
+		} catch (UnsupportedOperationException e) {
+			// Not a POSIX file system.
+		}
+	}
+
+	private static Cipher newCipher(int mode, String secret, byte[] salt, byte[] iv) throws GeneralSecurityException {
+		PBEKeySpec spec = new PBEKeySpec(secret.toCharArray(), salt, KDF_ITERATIONS, 256);
+		byte[] keyBytes = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+		spec.clearPassword();
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(mode, new SecretKeySpec(keyBytes, "AES"), new GCMParameterSpec(128, iv));
+		return cipher;
+	}
+
+	// Binds the entry to its key, server and expiry, so none of them can be swapped without failing decryption.
+	private static byte[] getAssociatedData(String key, String server, long expiresAt) {
+		return (key + "|" + server + "|" + expiresAt).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// Ignore.
+		}
+	}
+}
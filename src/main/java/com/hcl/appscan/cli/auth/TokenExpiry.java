@@ -0,0 +1,53 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.auth;
+
+import org.apache.wink.json4j.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class TokenExpiry {
+
+	public static final long UNKNOWN = -1;
+
+	/**
+	 * Reads the expiry time from the "exp" claim of a JWT bearer token. The signature is not verified.
+	 *
+	 * @param token The bearer token.
+	 * @return The expiry time in milliseconds since the epoch, or {@link #UNKNOWN} if the token is not a JWT or has no expiry claim.
+	 */
+	public static long fromJwt(String token) {
+		if (token == null) {
+			return UNKNOWN;
+		}
+		String[] parts = token.trim().split("\\.");
+		if (parts.length != 3) {
+			return UNKNOWN;
+		}
+		try {
+			String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+			JSONObject claims = new JSONObject(payload);
+			long exp = claims.optLong("exp", 0);
+			return exp > 0 ? exp * 1000 : UNKNOWN;
+		} catch (Exception e) {
+			return UNKNOWN;
+		}
+	}
+}
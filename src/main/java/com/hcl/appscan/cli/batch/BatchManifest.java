@@ -0,0 +1,201 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.batch;
+
+import org.apache.wink.json4j.JSONArray;
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The targets of a batch scan, read from a JSON or CSV manifest. Each target is a map from invokedynamicscan option
+ * names (without the leading dashes) or failbuildif threshold names to their values.
+ * <p>
+ * A JSON manifest is either an array of target objects, or an object with a "targets" array and an optional "defaults"
+ * object whose values apply to every target that does not set them. A CSV manifest has a header row with the names and
+ * one row per target; empty cells are ignored.
+ */
+public class BatchManifest {
+
+	private static final String TARGETS = "targets"; //$NON-NLS-1$
+	private static final String DEFAULTS = "defaults"; //$NON-NLS-1$
+
+	private final List<Map<String, String>> m_targets;
+
+	private BatchManifest(List<Map<String, String>> targets) {
+		m_targets = Collections.unmodifiableList(targets);
+	}
+
+	/**
+	 * Reads a manifest. The format is chosen by the file extension: .json or .csv.
+	 *
+	 * @param file The manifest file.
+	 * @return The manifest.
+	 * @throws IOException If the file cannot be read, has an unsupported extension or is malformed.
+	 */
+	public static BatchManifest read(File file) throws IOException {
+		String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+		String name = file.getName().toLowerCase(Locale.ENGLISH);
+		if (name.endsWith(".json")) //$NON-NLS-1$
+			return new BatchManifest(parseJson(content));
+		if (name.endsWith(".csv")) //$NON-NLS-1$
+			return new BatchManifest(parseCsv(content));
+		throw new IOException("Unsupported manifest format. Supported file extensions are : .json or .csv"); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return The targets, in manifest order.
+	 */
+	public List<Map<String, String>> getTargets() {
+		return m_targets;
+	}
+
+	private static List<Map<String, String>> parseJson(String content) throws IOException {
+		try {
+			String trimmed = content.trim();
+			JSONArray targets;
+			Map<String, String> defaults = Collections.emptyMap();
+			if (trimmed.startsWith("[")) { //$NON-NLS-1$
+				targets = new JSONArray(trimmed);
+			} else {
+				JSONObject manifest = new JSONObject(trimmed);
+				if (!manifest.has(TARGETS))
+					throw new IOException("Missing \"" + TARGETS + "\" array."); //$NON-NLS-1$ //$NON-NLS-2$
+				targets = manifest.getJSONArray(TARGETS);
+				if (manifest.has(DEFAULTS))
+					defaults = toMap(manifest.getJSONObject(DEFAULTS));
+			}
+
+			List<Map<String, String>> result = new ArrayList<Map<String, String>>();
+			for (int i = 0; i < targets.length(); i++) {
+				Map<String, String> target = new LinkedHashMap<String, String>(defaults);
+				target.putAll(toMap(targets.getJSONObject(i)));
+				result.add(target);
+			}
+			return result;
+		} catch (JSONException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Reads the options of one target from a JSON object.
+	 *
+	 * @param object The target.
+	 * @return The option values by name.
+	 * @throws JSONException If the object can not be read.
+	 * @throws IOException If a value is an object or an array.
+	 */
+	public static Map<String, String> toMap(JSONObject object) throws JSONException, IOException {
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		for (Iterator<?> keys = object.keys(); keys.hasNext();) {
+			String key = String.valueOf(keys.next());
+			Object value = object.get(key);
+			if (value instanceof JSONObject || value instanceof JSONArray)
+				throw new IOException("Value of \"" + key + "\" must be a string, number or boolean."); //$NON-NLS-1$ //$NON-NLS-2$
+			if (value != null)
+				map.put(key, String.valueOf(value));
+		}
+		return map;
+	}
+
+	private static List<Map<String, String>> parseCsv(String content) throws IOException {
+		List<List<String>> rows = readCsvRows(content);
+		if (rows.isEmpty())
+			return new ArrayList<Map<String, String>>();
+
+		List<String> header = rows.get(0);
+		List<Map<String, String>> result = new ArrayList<Map<String, String>>();
+		for (int i = 1; i < rows.size(); i++) {
+			List<String> row = rows.get(i);
+			if (row.size() > header.size())
+				throw new IOException("Row " + (i + 1) + " has more columns than the header."); //$NON-NLS-1$ //$NON-NLS-2$
+			Map<String, String> target = new LinkedHashMap<String, String>();
+			for (int column = 0; column < row.size(); column++) {
+				String value = row.get(column).trim();
+				if (!value.isEmpty())
+					target.put(header.get(column).trim(), value);
+			}
+			if (!target.isEmpty())
+				result.add(target);
+		}
+		return result;
+	}
+
+	// RFC 4180 fields: comma separated, optionally quoted, with "" as an escaped quote inside quotes.
+	private static List<List<String>> readCsvRows(String content) throws IOException {
+		List<List<String>> rows = new ArrayList<List<String>>();
+		List<String> row = new ArrayList<String>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		boolean rowHasData = false;
+		for (int i = 0; i < content.length(); i++) {
+			char c = content.charAt(i);
+			if (quoted) {
+				if (c == '"') {
+					if (i + 1 < content.length() && content.charAt(i + 1) == '"') {
+						field.append('"');
+						i++;
+					} else {
+						quoted = false;
+					}
+				} else {
+					field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+				rowHasData = true;
+			} else if (c == ',') {
+				row.add(field.toString());
+				field.setLength(0);
+				rowHasData = true;
+			} else if (c == '\n' || c == '\r') {
+				if (c == '\r' && i + 1 < content.length() && content.charAt(i + 1) == '\n')
+					i++;
+				if (rowHasData || field.length() > 0) {
+					row.add(field.toString());
+					rows.add(row);
+				}
+				row = new ArrayList<String>();
+				field.setLength(0);
+				rowHasData = false;
+			} else if (c != '\uFEFF' || i > 0) {
+				field.append(c);
+			}
+		}
+		if (quoted)
+			throw new IOException("Unterminated quoted field."); //$NON-NLS-1$
+		if (rowHasData || field.length() > 0) {
+			row.add(field.toString());
+			rows.add(row);
+		}
+		return rows;
+	}
+}
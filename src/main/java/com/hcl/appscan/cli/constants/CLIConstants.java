@@ -25,5 +25,10 @@ public interface CLIConstants {
 	String SCAN_STATUS_READY = "Ready";
 	String SCAN_STATUS_COMPLETED = "Completed";
 	String APPSCAN_CLOUD_CLI="appscan-cloud-cli";
+	String API_SCAN_DETAILS = "/api/v4/Scans/%s";
+	String API_SCAN_ISSUES = "/api/v4/Issues/Scan/%s";
+	String API_APP = "/api/v4/Apps/%s";
+	String API_APPS = "/api/v4/Apps?$select=Id,Name";
+	String API_PRESENCES = "/api/v4/Presences?$select=Id,PresenceName,Status";
 
 }
@@ -23,6 +23,9 @@ import com.hcl.appscan.cli.exception.ShortErrorMessageHandler;
 import org.fusesource.jansi.AnsiConsole;
 import picocli.CommandLine;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static picocli.CommandLine.*;
 import static picocli.CommandLine.Command;
 import static picocli.CommandLine.Help.Ansi.Style.*;
@@ -30,12 +33,6 @@ import static picocli.CommandLine.Help.Ansi.Style.italic;
 
 @Command(
         name = "-",
-        subcommands = {
-                GetApplicationIds.class,
-                InvokeDynamicScan.class,
-                GetPresenceIds.class,
-                HelpCommand.class
-        },
         mixinStandardHelpOptions = true, version = "AppScan CLI v1.0",headerHeading = "@|bold,underline Usage|@:%n%n",
         synopsisHeading = "%n",
         header = "HCL AppScan CLI Utility to streamline Dynamic Application Security Testing.",
@@ -44,18 +41,62 @@ import static picocli.CommandLine.Help.Ansi.Style.italic;
         descriptionHeading = "%n@|bold,underline Description|@:%n%n"
 )
 public class AppscanCLIApp implements Runnable {
+
+    // The subcommands, in the order they are listed in the help.
+    private static final Map<String, Class<?>> SUBCOMMANDS = new LinkedHashMap<>();
+    static {
+        SUBCOMMANDS.put("getapplications", GetApplicationIds.class);
+        SUBCOMMANDS.put("invokedynamicscan", InvokeDynamicScan.class);
+        SUBCOMMANDS.put("invokebatchscan", InvokeBatchScan.class);
+        SUBCOMMANDS.put("waitforscan", WaitForScan.class);
+        SUBCOMMANDS.put("getissues", GetIssues.class);
+        SUBCOMMANDS.put("serve", ServeScans.class);
+        SUBCOMMANDS.put("getpresenceids", GetPresenceIds.class);
+    }
+
     public static void main(String[] args) {
-        CommandLine commandLine = new CommandLine(new AppscanCLIApp());
-        commandLine.setCaseInsensitiveEnumValuesAllowed(true);
-        commandLine.setParameterExceptionHandler(new ShortErrorMessageHandler());
+        CommandLine commandLine = createCommandLine(args);
         Help.ColorScheme colorScheme = createColorScheme();
-        AnsiConsole.systemInstall();
+        // Jansi is only needed to show colors on Windows consoles. Loading it extracts and loads a native library.
+        boolean ansiConsole = isWindows() && System.console() != null;
+        if (ansiConsole) {
+            AnsiConsole.systemInstall();
+        }
         int exitCode = commandLine.setColorScheme(colorScheme).execute(args);
-        AnsiConsole.systemUninstall();
+        if (ansiConsole) {
+            AnsiConsole.systemUninstall();
+        }
         System.out.println("Process finished with exit code : "+exitCode);
         System.exit(exitCode);
 
     }
+    /**
+     * Creates the command line. Building a subcommand reads all its annotations and creates its object, so when the
+     * arguments name a subcommand only that one is added; the others are only added for the help and for errors.
+     *
+     * @param args The arguments.
+     * @return The command line.
+     */
+    static CommandLine createCommandLine(String[] args) {
+        CommandLine commandLine = new CommandLine(new AppscanCLIApp());
+        Class<?> subcommand = args.length > 0 ? SUBCOMMANDS.get(args[0]) : null;
+        if (subcommand != null) {
+            commandLine.addSubcommand(args[0], subcommand);
+        } else {
+            for (Map.Entry<String, Class<?>> entry : SUBCOMMANDS.entrySet()) {
+                commandLine.addSubcommand(entry.getKey(), entry.getValue());
+            }
+        }
+        commandLine.addSubcommand("help", HelpCommand.class);
+        commandLine.setCaseInsensitiveEnumValuesAllowed(true);
+        commandLine.setParameterExceptionHandler(new ShortErrorMessageHandler());
+        return commandLine;
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").startsWith("Windows");
+    }
+
     private static Help.ColorScheme createColorScheme() {
 
         return new Help.ColorScheme.Builder()
@@ -0,0 +1,85 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.auth.TokenCache;
+import com.hcl.appscan.cli.http.TlsConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ResourceBundle;
+
+import static picocli.CommandLine.*;
+
+/**
+ * The trust store and token cache options shared by the commands that connect to the service.
+ */
+class ConnectionOptions {
+
+    ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
+    @Spec(Spec.Target.MIXEE)
+    Model.CommandSpec spec;
+
+    private File truststore;
+
+    @Option(names = {"--truststore"}, paramLabel = "FILE", description = "[Optional] Path to a JKS or PKCS12 trust store with the certificates to trust when connecting to AppScan 360°. Safer alternative to --acceptssl for self-signed or private CA certificates.", required = false, order = 52)
+    public void setTruststore(File file) {
+        if (!file.isFile()) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.filepath"), file.getAbsolutePath()));
+        }
+        truststore = file;
+    }
+
+    @Option(names = {"--truststorePassword"}, paramLabel = "PASSWORD", description = "[Optional] Password of the trust store specified with --truststore.", required = false, order = 53)
+    private String truststorePassword;
+
+    @Option(names = {"--tokenCache"}, arity = "0..1", fallbackValue = "", paramLabel = "DIR", description = "[Optional] Reuse the authentication token across CLI runs until it expires. The token is cached in DIR (default: ~/.appscan/tokens), encrypted with the API secret.", required = false, order = 54)
+    private String tokenCacheDir;
+
+    /**
+     * Makes the trust store, if one was specified, the default for the connections to the service.
+     *
+     * @throws ParameterException If the trust store can not be loaded.
+     */
+    void configureTls() {
+        if (truststore == null) {
+            return;
+        }
+        try {
+            char[] password = truststorePassword == null ? null : truststorePassword.toCharArray();
+            TlsConfiguration.setDefault(TlsConfiguration.truststore(truststore, password));
+        } catch (IOException | GeneralSecurityException e) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.truststore"), truststore.getAbsolutePath(), e.getMessage()));
+        }
+    }
+
+    /**
+     * @return The token cache, or null if --tokenCache was not specified.
+     */
+    TokenCache getTokenCache() {
+        if (tokenCacheDir == null) {
+            return null;
+        }
+        return new TokenCache(tokenCacheDir.isBlank() ? TokenCache.getDefaultDirectory() : new File(tokenCacheDir));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.auth.TokenCache;
+import com.hcl.appscan.cli.polling.ConnectivityMonitor;
+import com.hcl.appscan.cli.scanners.ValidationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ResourceBundle;
+
+import static picocli.CommandLine.*;
+
+/**
+ * The API key, secret and service options shared by the commands that log in with them, and the login itself.
+ */
+class CredentialOptions {
+
+    private static final Logger logger = LoggerFactory.getLogger(CredentialOptions.class);
+
+    ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
+    @Spec(Spec.Target.MIXEE)
+    Model.CommandSpec spec;
+
+    @Option(names = {"--key"}, description = "[Required] AppScan on Cloud or AppScan 360° API Key", required = true , order = 1)
+    private String key;
+    @Option(names = {"--secret"}, description = "[Required] AppScan on Cloud or AppScan 360° API Secret", required = true , order = 2)
+    private String secret;
+
+    private String serviceUrl;
+
+    @Option(names = {"--serviceUrl"}, description = "[Optional] AppScan Service URL", required = false , order = 50)
+    public void setServiceUrl(String value) {
+        serviceUrl = trimServiceUrl(value);
+    }
+
+    private boolean acceptssl;
+
+    @Option(names = {"--acceptssl"},defaultValue = "false",  paramLabel = "BOOLEAN" , description = "[Optional] Ignore untrusted certificates when connecting to AppScan 360°. Only intended for testing purposes. Not applicable to AppScan on Cloud.", required = false ,showDefaultValue = Help.Visibility.ALWAYS , order = 51)
+    public void setAcceptssl(String value) {
+        if(null!=key && !isLocal() && (!value.isBlank()&&!"false".equalsIgnoreCase(value))){
+            logger.warn(messageBundle.getString("error.acceptssl.without.a360"));
+        }
+        if(null!=key && isLocal()){
+            boolean invalid = !"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value);
+
+            if (invalid) {
+                throw new ParameterException(spec.commandLine(),
+                        String.format(messageBundle.getString("error.invalid.acceptssl"), value));
+            }else if ("true".equalsIgnoreCase(value) && serviceUrl==null){
+                throw new ParameterException(spec.commandLine(),
+                        String.format(messageBundle.getString("error.acceptssl.without.serviceurl")));
+            }
+            acceptssl = Boolean.parseBoolean(value);
+        }
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getSecret() {
+        return secret;
+    }
+
+    /**
+     * @return The service URL without a trailing slash, or null if none was specified.
+     */
+    String getServiceUrl() {
+        return serviceUrl;
+    }
+
+    boolean isAcceptssl() {
+        return acceptssl;
+    }
+
+    /**
+     * @return True if the key is an AppScan 360° key.
+     */
+    boolean isLocal() {
+        return key != null && key.startsWith("local_");
+    }
+
+    /**
+     * Logs in with the key and secret.
+     *
+     * @param tokenCache The cache of tokens to reuse, or null.
+     * @return The authentication handler.
+     * @throws ParameterException If the service is unreachable or the credentials are not valid.
+     */
+    CloudAuthenticationHandler authenticate(TokenCache tokenCache) {
+        CloudAuthenticationHandler authHandler = newAuthHandler(tokenCache);
+        try {
+            if(!authHandler.updateCredentials(key, secret)) {
+                throw new ParameterException(spec.commandLine(),
+                        String.format(messageBundle.getString("error.invalid.credentials")));
+            }
+        } catch (Exception e){
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.credentials")));
+        }
+        return authHandler;
+    }
+
+    /**
+     * Creates the authentication handler for the service, without logging in.
+     *
+     * @param tokenCache The cache of tokens to reuse, or null.
+     * @return The authentication handler.
+     * @throws ParameterException If the AppScan 360° service is unreachable.
+     */
+    CloudAuthenticationHandler newAuthHandler(TokenCache tokenCache) {
+        try {
+            return newAuthHandler(key, serviceUrl, acceptssl, tokenCache);
+        } catch (IOException e) {
+            throw new ParameterException(spec.commandLine(), e.getMessage());
+        }
+    }
+
+    /**
+     * @param authHandler The authentication handler.
+     * @return A monitor of the connection to the service the handler logs in to.
+     */
+    ConnectivityMonitor getConnectivityMonitor(CloudAuthenticationHandler authHandler) {
+        if (serviceUrl != null && isLocal()) {
+            return new ConnectivityMonitor(serviceUrl, acceptssl);
+        }
+        return new ConnectivityMonitor(authHandler.getServer(), false);
+    }
+
+    /**
+     * Creates the authentication handler for a key, without logging in. The service URL only applies to AppScan 360°
+     * keys, and the service must be reachable.
+     *
+     * @param key The API key.
+     * @param serviceUrl The AppScan 360° service URL, or null for AppScan on Cloud.
+     * @param acceptssl True to ignore untrusted certificates of the AppScan 360° service.
+     * @param tokenCache The cache of tokens to reuse, or null.
+     * @return The authentication handler.
+     * @throws IOException If the AppScan 360° service is unreachable.
+     */
+    static CloudAuthenticationHandler newAuthHandler(String key, String serviceUrl, boolean acceptssl, TokenCache tokenCache) throws IOException {
+        CloudAuthenticationHandler authHandler;
+        serviceUrl = trimServiceUrl(serviceUrl);
+        if(null!=serviceUrl && key.startsWith("local_")){
+            if(!ValidationUtil.checkASoCConnectivity(serviceUrl,acceptssl)){
+                throw new IOException(ResourceBundle.getBundle("messages").getString("error.unreachable.serviceurl"));
+            }
+            authHandler = new CloudAuthenticationHandler(serviceUrl , acceptssl);
+        }else{
+            authHandler = new CloudAuthenticationHandler();
+        }
+        authHandler.setTokenCache(tokenCache);
+        return authHandler;
+    }
+
+    private static String trimServiceUrl(String serviceUrl) {
+        if(serviceUrl != null && serviceUrl.endsWith("/")){
+            return serviceUrl.substring(0, serviceUrl.length()-1);
+        }
+        return serviceUrl;
+    }
+}
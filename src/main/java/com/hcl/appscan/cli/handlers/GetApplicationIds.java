@@ -19,17 +19,23 @@
 package com.hcl.appscan.cli.handlers;
 
 import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
-import com.hcl.appscan.cli.scanners.ValidationUtil;
-import com.hcl.appscan.sdk.app.CloudApplicationProvider;
+import com.hcl.appscan.cli.metadata.MetadataCache;
+import com.hcl.appscan.cli.metadata.MetadataFilter;
+import com.hcl.appscan.cli.metadata.MetadataSource;
+import com.hcl.appscan.cli.metadata.MetadataWriter;
+import com.hcl.appscan.cli.paging.PagedExporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.concurrent.Callable;
 
 import static picocli.CommandLine.*;
 
+enum ListFormat { table, jsonl, csv }
 @Command(name = "getapplications" , sortOptions = false, mixinStandardHelpOptions = true , subcommands = {HelpCommand.class} ,
         description ="Get list of application id's from AppScan on Cloud or AppScan 360°"
 )
@@ -41,36 +47,60 @@ public class GetApplicationIds implements Callable<Integer> {
     Model.CommandSpec spec;
 
     ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
-    @Option(names = {"--key"}, description = "[Required] AppScan on Cloud or AppScan 360° API Key", required = true , order = 2)
-    private String key;
-    @Option(names = {"--secret"}, description = "[Required] AppScan on Cloud or AppScan 360° API Secret", required = true , order = 3)
-    private String secret;
+    @Mixin
+    CredentialOptions credentials;
+    @Mixin
+    ConnectionOptions connection;
 
-    @Option(names = {"--serviceUrl"}, description = "[Optional] AppScan Service URL", required = false , order = 1)
-    private String serviceUrl;
+    @Option(names = {"--metadataCache"}, arity = "0..1", fallbackValue = "", paramLabel = "DIR", description = "[Optional] Reuse the application and presence lists across CLI runs. The lists are cached in DIR (default: ~/.appscan/metadata).", required = false, order = 8)
+    private String metadataCacheDir;
 
-    private Boolean acceptssl;
+    private long metadataTtl;
 
-    @Option(names = {"--acceptssl"},defaultValue = "false",  paramLabel = "BOOLEAN" , description = "[Optional] Ignore untrusted certificates when connecting to AppScan 360°. Only intended for testing purposes. Not applicable to AppScan on Cloud.", required = false ,showDefaultValue = Help.Visibility.ALWAYS , order = 4)
-    public void setAcceptssl(String value) {
-
-        if(null!=key && !key.startsWith("local_") && (!value.isBlank()&&!"false".equalsIgnoreCase(value))){
-            logger.warn(messageBundle.getString("error.acceptssl.without.a360"));
+    @Option(names = {"--metadataTtl"}, defaultValue = "900", paramLabel = "SECONDS", description = "[Optional] Time the cached lists are used before they are checked with the service again.", required = false, showDefaultValue = Help.Visibility.ALWAYS, order = 9)
+    public void setMetadataTtl(long value) {
+        if (value < 0) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.metadataTtl"), value));
         }
+        metadataTtl = value;
+    }
 
-        if(null!=key && key.startsWith("local_")){
-            boolean invalid = !"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value);
+    @Option(names = {"--refresh"}, description = "[Optional] Fetch the lists from the service instead of using the cached ones, and update the cache.", required = false, order = 10)
+    private boolean refresh;
 
-            if (invalid) {
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.invalid.acceptssl"), value));
-            }else if ("true".equalsIgnoreCase(value) && serviceUrl==null){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.acceptssl.without.serviceurl")));
-            }
-            acceptssl = Boolean.parseBoolean(value);
+    @Option(names = {"--filter"}, paramLabel = "TEXT", description = "[Optional] Only list the applications whose name contains TEXT, ignoring case.", required = false, order = 11)
+    private String filter;
+
+    @Option(names = {"--prefix"}, paramLabel = "TEXT", description = "[Optional] Only list the applications whose name starts with TEXT, ignoring case.", required = false, order = 12)
+    private String prefix;
+
+    @Option(names = {"--format"}, defaultValue = "table", description = "[Optional] Output format: a table, one JSON object per line, or CSV with a header row. Valid values : ${COMPLETION-CANDIDATES}.", required = false, showDefaultValue = Help.Visibility.ALWAYS, order = 13)
+    private ListFormat format;
+
+    @Option(names = {"--output"}, paramLabel = "FILE", description = "[Optional] File to write the applications to. By default they are written to the standard output.", required = false, order = 14)
+    private File output;
+
+    private int pageSize;
+
+    @Option(names = {"--pageSize"}, defaultValue = "500", description = "[Optional] Number of applications requested at a time.", required = false, showDefaultValue = Help.Visibility.ALWAYS, order = 15)
+    public void setPageSize(int value) {
+        if (value < 1 || value > 5000) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.pageSize"), value));
         }
+        pageSize = value;
+    }
+
+    private int prefetch;
 
+    @Option(names = {"--prefetch"}, defaultValue = "2", description = "[Optional] Number of pages requested ahead of the page being written.", required = false, showDefaultValue = Help.Visibility.ALWAYS, order = 16)
+    public void setPrefetch(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.prefetch"), value));
+        }
+        prefetch = value;
     }
 
     @Override
@@ -85,45 +115,65 @@ public class GetApplicationIds implements Callable<Integer> {
 
     private void printApplicationsList() throws Exception {
         CloudAuthenticationHandler authHandler;
-        if(null!=serviceUrl && key.startsWith("local_")){
-            if(serviceUrl.endsWith("/")){
-                serviceUrl = serviceUrl.substring(0, serviceUrl.length()-1);
-            }
-            boolean isValidURL = ValidationUtil.checkASoCConnectivity(serviceUrl,acceptssl);
-            if(!isValidURL){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.unreachable.serviceurl")));
-            }
-             authHandler = new CloudAuthenticationHandler(serviceUrl , acceptssl);
-        }else{
-             authHandler = new CloudAuthenticationHandler();
+        try {
+            connection.configureTls();
+            authHandler = credentials.newAuthHandler(connection.getTokenCache());
+        } catch (ParameterException e) {
+            logger.error(e.getMessage());
+            throw e;
         }
-
-
         try {
-            authHandler.updateCredentials( key, secret );
+            authHandler.updateCredentials(credentials.getKey(), credentials.getSecret());
         } catch (Exception e) {
             //logger.error("Error in authenticating the request. Please check the credentials!");
             logger.error(e.getMessage());
             throw e;
         }
-        try {
-            Map<String, String> applications = getApplications(authHandler);
-            System.out.println("Application ID \t\t\t\t\t\t\tApplication Name");
-            System.out.println("---------------------------------------------------------------------------------");
-            for (Map.Entry<?, ?> entry : applications.entrySet()) {
-                System.out.printf("%-15s\t-\t%s%n", entry.getKey(), entry.getValue());
+        long start = System.currentTimeMillis();
+        try (MetadataWriter writer = ListOutput.newMetadataWriter(MetadataCache.Resource.Applications, format, output, "Application ID", "Application Name")) {
+            long count = exportList(authHandler, writer);
+            if (output != null) {
+                logger.info(messageBundle.getString("info.list.exported"), count, output.getAbsolutePath(), System.currentTimeMillis() - start);
             }
-
         } catch (Exception e) {
             logger.error(e.getMessage());
             throw e;
         }
     }
 
-    private static Map<String, String> getApplications(CloudAuthenticationHandler authHandler) throws Exception {
-        CloudApplicationProvider applicationProvider = new CloudApplicationProvider(authHandler);
-        return applicationProvider.getApplications();
+    private MetadataCache getMetadataCache() {
+        if (metadataCacheDir == null) {
+            return null;
+        }
+        return new MetadataCache(metadataCacheDir.isBlank() ? MetadataCache.getDefaultDirectory() : new File(metadataCacheDir), metadataTtl, refresh);
+    }
+
+    // Writes the list as each page arrives. Cached lists are filtered locally.
+    private long exportList(CloudAuthenticationHandler authHandler, MetadataWriter writer) throws IOException, InterruptedException {
+        MetadataFilter metadataFilter = getFilter();
+        MetadataCache metadataCache = getMetadataCache();
+        if (metadataCache != null) {
+            long count = 0;
+            for (Map<String, String> item : metadataCache.get(authHandler, MetadataCache.Resource.Applications).values()) {
+                if (metadataFilter == null || metadataFilter.matches(item)) {
+                    writer.write(item);
+                    count++;
+                }
+            }
+            return count;
+        }
+        MetadataSource source = new MetadataSource(authHandler, MetadataCache.Resource.Applications, metadataFilter, pageSize);
+        return new PagedExporter<>(source, prefetch, "appscan-metadata").export(writer);
+    }
+
+    private MetadataFilter getFilter() {
+        if (filter != null && prefix != null) {
+            throw new ParameterException(spec.commandLine(), messageBundle.getString("error.filter.prefix"));
+        }
+        if (filter != null) {
+            return MetadataFilter.contains(MetadataCache.Resource.Applications, filter);
+        }
+        return prefix == null ? null : MetadataFilter.startsWith(MetadataCache.Resource.Applications, prefix);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.issues.BaselineIndex;
+import com.hcl.appscan.cli.issues.FingerprintCollector;
+import com.hcl.appscan.cli.issues.Issue;
+import com.hcl.appscan.cli.issues.IssueSource;
+import com.hcl.appscan.cli.issues.IssueWriter;
+import com.hcl.appscan.cli.paging.PagedExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+
+import static picocli.CommandLine.*;
+import static picocli.CommandLine.Help.*;
+
+enum IssueFormat { ndjson, csv, baseline }
+@Command(name = "getissues", sortOptions = false, mixinStandardHelpOptions = true, version = "1.0", subcommands = {HelpCommand.class},
+        description = "Export all the issues of a scan from AppScan on Cloud or AppScan 360°, with their URL, CWE, severity, status and fingerprint, as NDJSON or CSV. The issues are fetched in pages, several at a time, and written in order as they arrive, so scans of any size can be exported."
+)
+public class GetIssues implements Callable<Integer> {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetIssues.class);
+
+    @Spec
+    Model.CommandSpec spec;
+    @Mixin
+    CredentialOptions credentials;
+    @Mixin
+    ConnectionOptions connection;
+
+    ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
+    @Option(names = {"--scanId"}, description = "[Required] The ID of the scan.", required = true , order = 3)
+    private String scanId;
+
+    @Option(names = {"--format"}, defaultValue = "ndjson", description = "[Optional] Output format: one JSON object per line, CSV with a header row, or a baseline file for the failbuildif new issue conditions (requires --output). Valid values : ${COMPLETION-CANDIDATES}.", required = false, showDefaultValue = Visibility.ALWAYS, order = 4)
+    private IssueFormat format;
+    @Option(names = {"--output"}, paramLabel = "FILE", description = "[Optional] File to write the issues to. By default the issues are written to the standard output.", required = false, order = 5)
+    private File output;
+
+    private int pageSize;
+
+    @Option(names = {"--pageSize"}, defaultValue = "500", description = "[Optional] Number of issues requested at a time.", required = false, showDefaultValue = Visibility.ALWAYS, order = 6)
+    public void setPageSize(int value) {
+        if (value < 1 || value > 5000) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.pageSize"), value));
+        }
+        pageSize = value;
+    }
+
+    private int concurrency;
+
+    @Option(names = {"--concurrency"}, defaultValue = "4", description = "[Optional] Maximum number of pages requested at the same time.", required = false, showDefaultValue = Visibility.ALWAYS, order = 7)
+    public void setConcurrency(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.concurrency"), value));
+        }
+        concurrency = value;
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        connection.configureTls();
+        CloudAuthenticationHandler authHandler = credentials.authenticate(connection.getTokenCache());
+        PagedExporter<Issue> exporter = new PagedExporter<>(new IssueSource(authHandler, scanId, pageSize), concurrency, "appscan-issues");
+        long start = System.currentTimeMillis();
+        if (format == IssueFormat.baseline) {
+            return writeBaseline(exporter, start);
+        }
+        try (IssueWriter writer = newWriter()) {
+            long count = exporter.export(writer);
+            if (output != null) {
+                logger.info(messageBundle.getString("info.issues.exported"), count, output.getAbsolutePath(), System.currentTimeMillis() - start);
+            }
+            return 0;
+        } catch (IOException e) {
+            logger.error(String.format(messageBundle.getString("error.issues.export"), scanId, e.getMessage()));
+            return 2;
+        }
+    }
+
+    private int writeBaseline(PagedExporter<Issue> exporter, long start) throws InterruptedException {
+        if (output == null) {
+            throw new ParameterException(spec.commandLine(), messageBundle.getString("error.baseline.output"));
+        }
+        try {
+            FingerprintCollector collector = new FingerprintCollector();
+            exporter.export(collector);
+            int count = BaselineIndex.write(output, collector.getFingerprints());
+            logger.info(messageBundle.getString("info.baseline.written"), count, output.getAbsolutePath(), System.currentTimeMillis() - start);
+            return 0;
+        } catch (IOException e) {
+            logger.error(String.format(messageBundle.getString("error.issues.export"), scanId, e.getMessage()));
+            return 2;
+        }
+    }
+
+    private IssueWriter newWriter() throws IOException {
+        Writer writer = ListOutput.open(output);
+        return format == IssueFormat.csv ? IssueWriter.csv(writer) : IssueWriter.ndjson(writer);
+    }
+
+}
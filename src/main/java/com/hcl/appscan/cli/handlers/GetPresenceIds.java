@@ -19,10 +19,16 @@
 package com.hcl.appscan.cli.handlers;
 
 import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
-import com.hcl.appscan.sdk.presence.CloudPresenceProvider;
+import com.hcl.appscan.cli.metadata.MetadataCache;
+import com.hcl.appscan.cli.metadata.MetadataFilter;
+import com.hcl.appscan.cli.metadata.MetadataSource;
+import com.hcl.appscan.cli.metadata.MetadataWriter;
+import com.hcl.appscan.cli.paging.PagedExporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.concurrent.Callable;
@@ -47,6 +53,60 @@ public class GetPresenceIds implements Callable<Integer> {
     @Option(names = {"--serviceUrl"}, description = "[Required] AppScan Service URL", required = false , order = 3)
     private String serviceUrl;
 
+    @Mixin
+    ConnectionOptions connection;
+
+    @Option(names = {"--metadataCache"}, arity = "0..1", fallbackValue = "", paramLabel = "DIR", description = "[Optional] Reuse the application and presence lists across CLI runs. The lists are cached in DIR (default: ~/.appscan/metadata).", required = false, order = 5)
+    private String metadataCacheDir;
+
+    private long metadataTtl;
+
+    @Option(names = {"--metadataTtl"}, defaultValue = "900", paramLabel = "SECONDS", description = "[Optional] Time the cached lists are used before they are checked with the service again.", required = false, showDefaultValue = Help.Visibility.ALWAYS, order = 6)
+    public void setMetadataTtl(long value) {
+        if (value < 0) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.metadataTtl"), value));
+        }
+        metadataTtl = value;
+    }
+
+    @Option(names = {"--refresh"}, description = "[Optional] Fetch the lists from the service instead of using the cached ones, and update the cache.", required = false, order = 7)
+    private boolean refresh;
+
+    @Option(names = {"--filter"}, paramLabel = "TEXT", description = "[Optional] Only list the presences whose name contains TEXT, ignoring case.", required = false, order = 8)
+    private String filter;
+
+    @Option(names = {"--prefix"}, paramLabel = "TEXT", description = "[Optional] Only list the presences whose name starts with TEXT, ignoring case.", required = false, order = 9)
+    private String prefix;
+
+    @Option(names = {"--format"}, defaultValue = "table", description = "[Optional] Output format: a table, one JSON object per line, or CSV with a header row. Valid values : ${COMPLETION-CANDIDATES}.", required = false, showDefaultValue = Help.Visibility.ALWAYS, order = 10)
+    private ListFormat format;
+
+    @Option(names = {"--output"}, paramLabel = "FILE", description = "[Optional] File to write the presences to. By default they are written to the standard output.", required = false, order = 11)
+    private File output;
+
+    private int pageSize;
+
+    @Option(names = {"--pageSize"}, defaultValue = "500", description = "[Optional] Number of presences requested at a time.", required = false, showDefaultValue = Help.Visibility.ALWAYS, order = 12)
+    public void setPageSize(int value) {
+        if (value < 1 || value > 5000) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.pageSize"), value));
+        }
+        pageSize = value;
+    }
+
+    private int prefetch;
+
+    @Option(names = {"--prefetch"}, defaultValue = "2", description = "[Optional] Number of pages requested ahead of the page being written.", required = false, showDefaultValue = Help.Visibility.ALWAYS, order = 13)
+    public void setPrefetch(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.prefetch"), value));
+        }
+        prefetch = value;
+    }
+
     @Override
     public Integer call() {
         try{
@@ -62,34 +122,70 @@ public class GetPresenceIds implements Callable<Integer> {
             logger.error("This command is not applicable for AppScan 360° service.");
             throw new IllegalArgumentException("This command is not applicable for AppScan 360° service.");
         }
+        try {
+            connection.configureTls();
+        } catch (ParameterException e) {
+            logger.error(e.getMessage());
+            throw e;
+        }
         CloudAuthenticationHandler authHandler;
         if(null!=serviceUrl){
             authHandler = new CloudAuthenticationHandler(serviceUrl, false);
         }else{
             authHandler = new CloudAuthenticationHandler();
         }
+        authHandler.setTokenCache(connection.getTokenCache());
         try {
             authHandler.updateCredentials(key, secret);
         } catch (Exception e) {
             logger.error("Error in authenticating the request. Please check the credentials!");
             throw e;
         }
-        try {
-            Map<String, String> presenceMap = getPresenceMap(authHandler);
-            System.out.println("Presence ID \t\t\t\t\t\t\tPresence Name");
-            System.out.println("---------------------------------------------------------------------------------");
-            for (Map.Entry<?, ?> entry : presenceMap.entrySet()) {
-                System.out.printf("%-15s\t-\t%s%n", entry.getKey(), entry.getValue());
+        long start = System.currentTimeMillis();
+        try (MetadataWriter writer = ListOutput.newMetadataWriter(MetadataCache.Resource.Presences, format, output, "Presence ID", "Presence Name")) {
+            long count = exportList(authHandler, writer);
+            if (output != null) {
+                logger.info(messageBundle.getString("info.list.exported"), count, output.getAbsolutePath(), System.currentTimeMillis() - start);
             }
-
         } catch (Exception e) {
             logger.error(e.getMessage());
             throw e;
         }
     }
 
-    private static Map<String, String> getPresenceMap(CloudAuthenticationHandler authHandler) throws Exception {
-        return new CloudPresenceProvider(authHandler).getPresences();
+    private MetadataCache getMetadataCache() {
+        if (metadataCacheDir == null) {
+            return null;
+        }
+        return new MetadataCache(metadataCacheDir.isBlank() ? MetadataCache.getDefaultDirectory() : new File(metadataCacheDir), metadataTtl, refresh);
+    }
+
+    // Writes the list as each page arrives. Cached lists are filtered locally.
+    private long exportList(CloudAuthenticationHandler authHandler, MetadataWriter writer) throws IOException, InterruptedException {
+        MetadataFilter metadataFilter = getFilter();
+        MetadataCache metadataCache = getMetadataCache();
+        if (metadataCache != null) {
+            long count = 0;
+            for (Map<String, String> item : metadataCache.get(authHandler, MetadataCache.Resource.Presences).values()) {
+                if (metadataFilter == null || metadataFilter.matches(item)) {
+                    writer.write(item);
+                    count++;
+                }
+            }
+            return count;
+        }
+        MetadataSource source = new MetadataSource(authHandler, MetadataCache.Resource.Presences, metadataFilter, pageSize);
+        return new PagedExporter<>(source, prefetch, "appscan-metadata").export(writer);
+    }
+
+    private MetadataFilter getFilter() {
+        if (filter != null && prefix != null) {
+            throw new ParameterException(spec.commandLine(), messageBundle.getString("error.filter.prefix"));
+        }
+        if (filter != null) {
+            return MetadataFilter.contains(MetadataCache.Resource.Presences, filter);
+        }
+        return prefix == null ? null : MetadataFilter.startsWith(MetadataCache.Resource.Presences, prefix);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.batch.BatchManifest;
+import com.hcl.appscan.cli.http.HttpTransport;
+import com.hcl.appscan.cli.polling.RateLimiter;
+import com.hcl.appscan.cli.polling.ScanMonitor;
+import com.hcl.appscan.cli.polling.ScanThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static picocli.CommandLine.*;
+import static picocli.CommandLine.Help.*;
+
+@Command(name = "invokebatchscan", sortOptions = false, mixinStandardHelpOptions = true, version = "1.0",
+        description = "This command runs the Dynamic Security Analysis Scans of all the targets listed in a manifest file on AppScan on Cloud or AppScan 360°. It authenticates once, validates all the targets before submitting any scan, and then runs the scans with a limited number of scans in progress at the same time. Each target accepts the options of the invokedynamicscan command and the thresholds of its failbuildif subcommand. The command exits with the most severe exit code of all the targets: 2 (invalid target) before 10 (scan failed or threshold exceeded) before 12 (non-compliant issues) before 0.",
+        optionListHeading = "%n@|bold,underline Options|@:%n" , descriptionHeading = "%n@|bold,underline Description|@:%n%n",
+        subcommands = {HelpCommand.class})
+public class InvokeBatchScan implements Callable<Integer> {
+
+    private static final Logger logger = LoggerFactory.getLogger(InvokeBatchScan.class);
+    // The exit codes of the targets, from the most to the least severe. Any other code comes before all of them.
+    private static final List<Integer> EXIT_CODE_PRECEDENCE = Arrays.asList(2, 10, 12, 0);
+
+    ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
+    @Spec
+    Model.CommandSpec spec;
+    @Mixin
+    CredentialOptions credentials;
+    @Mixin
+    ConnectionOptions connection;
+
+
+    private File manifest;
+
+    @Option(names = {"--manifest"}, paramLabel = "FILE", description = "[Required] A JSON or CSV file that lists the targets to scan. Each target sets the invokedynamicscan options (such as appId, target, scanName, loginType, scanFile) and optionally the failbuildif thresholds (such as highissuesgt), by option name without the leading dashes.", required = true , order = 3)
+    public void setManifest(File file) {
+        if (!file.isFile()) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.filepath"), file.getAbsolutePath()));
+        }
+        manifest = file;
+    }
+
+    private int concurrency;
+
+    @Option(names = {"--concurrency"}, defaultValue = "4", description = "[Optional] Maximum number of scans in progress at the same time.", required = false, showDefaultValue = Visibility.ALWAYS, order = 4)
+    public void setConcurrency(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.concurrency"), value));
+        }
+        concurrency = value;
+    }
+
+    private double rateLimit;
+
+    @Option(names = {"--rateLimit"}, defaultValue = "10", paramLabel = "REQUESTS", description = "[Optional] Maximum number of scan status checks per second, shared by all the scans of the batch. 0 for no limit.", required = false, showDefaultValue = Visibility.ALWAYS, order = 10)
+    public void setRateLimit(double value) {
+        if (value < 0) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.rateLimit"), value));
+        }
+        rateLimit = value;
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        List<ScanJob> runs = parseManifest();
+        connection.configureTls();
+        CloudAuthenticationHandler authHandler = credentials.authenticate(connection.getTokenCache());
+
+        preflight(runs, authHandler);
+        runScans(runs, authHandler);
+        return printSummary(runs);
+    }
+
+    // Parses every target with the invokedynamicscan options, so targets are validated exactly like single scans.
+    private List<ScanJob> parseManifest() {
+        BatchManifest batchManifest;
+        try {
+            batchManifest = BatchManifest.read(manifest);
+        } catch (IOException e) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.batch.manifest"), manifest.getAbsolutePath(), e.getMessage()));
+        }
+        if (batchManifest.getTargets().isEmpty()) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.batch.empty"), manifest.getAbsolutePath()));
+        }
+
+        List<ScanJob> runs = new ArrayList<>();
+        for (Map<String, String> options : batchManifest.getTargets()) {
+            ScanJob run = new ScanJob(String.valueOf(runs.size() + 1), options);
+            runs.add(run);
+            run.parse(credentials.getKey(), credentials.getSecret(), credentials.getServiceUrl(), spec.name());
+        }
+        return runs;
+    }
+
+    // Validates the presence or target of every target in parallel. Invalid targets are not scanned.
+    private void preflight(List<ScanJob> runs, CloudAuthenticationHandler authHandler) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(runs.size(), HttpTransport.get().getPoolSize()));
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (ScanJob run : runs) {
+                if (run.isPending()) {
+                    tasks.add(() -> {
+                        run.preflight(authHandler);
+                        return null;
+                    });
+                }
+            }
+            executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // Each scan waits on its own (virtual, where available) thread. The semaphore limits the scans in progress.
+    private void runScans(List<ScanJob> runs, CloudAuthenticationHandler authHandler) throws InterruptedException {
+        Semaphore slots = new Semaphore(concurrency);
+        ExecutorService executor = ScanThreads.newExecutor("appscan-scan");
+        try (ScanMonitor monitor = new ScanMonitor(credentials.getConnectivityMonitor(authHandler), new RateLimiter(rateLimit))) {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (ScanJob run : runs) {
+                if (run.isPending()) {
+                    tasks.add(() -> {
+                        slots.acquire();
+                        try {
+                            run.run(authHandler, monitor);
+                        } finally {
+                            slots.release();
+                        }
+                        return null;
+                    });
+                }
+            }
+            executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int printSummary(List<ScanJob> runs) {
+        int exitCode = 0;
+        int passed = 0;
+        StringBuilder summary = new StringBuilder();
+        summary.append("--------------------------Batch Scan Results-----------------------------------").append(System.lineSeparator());
+        for (ScanJob run : runs) {
+            summary.append(String.format("\t%3s. %s - %s (exit code %d)", run.getId(), run.getLabel(), run.getOutcome(), run.getExitCode())).append(System.lineSeparator());
+            exitCode = mostSevere(exitCode, run.getExitCode());
+            if (run.getExitCode() == 0) {
+                passed++;
+            }
+        }
+        summary.append("-----------------------------------------------------------------------------------");
+        logger.info(summary.toString());
+        logger.info(messageBundle.getString("info.batch.summary"), runs.size(), passed, runs.size() - passed);
+        return exitCode;
+    }
+
+    // A failed scan (10) must not be hidden by non-compliant issues (12) on another target, so the codes are not compared by value.
+    static int mostSevere(int a, int b) {
+        return EXIT_CODE_PRECEDENCE.indexOf(a) <= EXIT_CODE_PRECEDENCE.indexOf(b) ? a : b;
+    }
+}
@@ -22,9 +22,27 @@ import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
 import com.hcl.appscan.cli.auth.LoginUtility;
 import com.hcl.appscan.cli.constants.ScannerConstants;
 import com.hcl.appscan.cli.exception.AbortException;
+import com.hcl.appscan.cli.metadata.MetadataCache;
+import com.hcl.appscan.cli.metrics.MetricsWriter;
+import com.hcl.appscan.cli.metrics.ScanMetrics;
+import com.hcl.appscan.cli.issues.BaselineIndex;
+import com.hcl.appscan.cli.issues.FingerprintCollector;
+import com.hcl.appscan.cli.issues.IssueSource;
+import com.hcl.appscan.cli.issues.NewIssueCounter;
+import com.hcl.appscan.cli.paging.PagedExporter;
+import com.hcl.appscan.cli.polling.PollScheduler;
+import com.hcl.appscan.cli.polling.RateLimiter;
+import com.hcl.appscan.cli.polling.ScanMonitor;
+import com.hcl.appscan.cli.polling.ScanPoller;
+import com.hcl.appscan.cli.polling.ScanSnapshot;
+import com.hcl.appscan.cli.polling.ScanThreads;
+import com.hcl.appscan.cli.results.ArtifactDownload;
 import com.hcl.appscan.cli.results.ScanProgress;
 import com.hcl.appscan.cli.results.ScanResults;
+import com.hcl.appscan.cli.results.ScanThresholds;
 import com.hcl.appscan.cli.scanners.DynamicAnalyzer;
+import com.hcl.appscan.cli.scanners.ScanCheckpoint;
+import com.hcl.appscan.cli.scanners.ScanHandle;
 import com.hcl.appscan.cli.scanners.Scanner;
 import com.hcl.appscan.cli.scanners.ValidationUtil;
 import com.hcl.appscan.sdk.CoreConstants;
@@ -33,6 +51,7 @@ import com.hcl.appscan.sdk.presence.CloudPresenceProvider;
 import com.hcl.appscan.sdk.results.CloudResultsProvider;
 import com.hcl.appscan.sdk.results.IResultsProvider;
 import com.hcl.appscan.sdk.results.NonCompliantIssuesResultProvider;
+import com.hcl.appscan.sdk.scan.CloudScanServiceProvider;
 import com.hcl.appscan.sdk.scan.IScan;
 import com.hcl.appscan.sdk.scan.IScanFactory;
 import com.hcl.appscan.sdk.scan.IScanServiceProvider;
@@ -47,6 +66,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.*;
@@ -60,6 +80,7 @@ enum ScanType { Production, Staging }
 enum Optimization { Fast, Faster, Fastest, NoOptimization }
 enum ReportFormat { html, pdf, csv, xml }
 enum LoginType { None , Automatic , Manual }
+enum PostScanStage { report, scanLog, summary }
 @Command(name = "invokedynamicscan", sortOptions = false, mixinStandardHelpOptions = true, version = "1.0",
         description = "This command serves the purpose of configuring and triggering the initiation of a Dynamic Security Analysis Scan on AppScan on Cloud or AppScan 360°. This operation is designed to seamlessly retrieve the outcomes of the scan once it has concluded. The yielded results encompass a list of pinpointed vulnerabilities, comprehensive analytical documents, and associated URLs for these reports. Moreover, the Command Line Interface (CLI) can be customized by employing specific command line options to establish criteria for failure instances. Consequently, this enables the CLI to transmit a signal indicating success or failure to the designated pipeline in a well-defined manner." ,
         optionListHeading = "%n@|bold,underline Options|@:%n" , descriptionHeading = "%n@|bold,underline Description|@:%n%n",
@@ -70,11 +91,13 @@ public class InvokeDynamicScan implements Callable<Integer> {
     ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
     @Spec
     Model.CommandSpec spec;
+    @Mixin
+    CredentialOptions credentials;
+    @Mixin
+    ConnectionOptions connection;
+    @Mixin
+    ResultOptions resultOptions;
 
-    @Option(names = {"--key"}, description = "[Required] AppScan on Cloud or AppScan 360° API Key", required = true , order = 1)
-    private String key;
-    @Option(names = {"--secret"}, description = "[Required] AppScan on Cloud or AppScan 360° API Secret", required = true , order = 2)
-    private String secret;
     @Option(names = {"--appId"}, description = "[Required] The HCL AppScan on Cloud or AppScan 360° application that this scan will be associated with", required = true , order = 3)
     private String appId;
     @Option(names = {"--scanName"}, description = "[Required] Specify a name to use for the scan. This value is used to distinguish this scan and its results from others.", required = true , order = 4)
@@ -86,12 +109,9 @@ public class InvokeDynamicScan implements Callable<Integer> {
     @Option(names = {"--optimization"}, defaultValue = "fast", description = "[Optional] You can reduce scan time by choosing a balance between speed and issue coverage. Valid values : ${COMPLETION-CANDIDATES}", required = false , showDefaultValue = Visibility.ALWAYS , order = 7)
     private Optimization optimization;
     private Boolean emailNotification;
-    @Option(names = {"--reportFormat"},defaultValue = "html",  description = "[Optional] Specify the format for the scan result report. Valid values : ${COMPLETION-CANDIDATES}.", required = false , showDefaultValue = Visibility.ALWAYS , order = 9)
-    private ReportFormat reportFormat;
     private Boolean allowIntervention;
     private String presenceId;
     private Boolean waitForResults;
-    private Boolean failBuildNonCompliance;
     private  String scanFile;
     @Option(names = {"--loginType"},defaultValue = "None", description = "[Optional] Which Login method do you want to use? Enter None if login not required. Enter Automatic if you want to provide loginUser and password. Enter Manual if you want to specify Login Sequence File. Valid values : ${COMPLETION-CANDIDATES} ", required = false ,showDefaultValue = Visibility.ALWAYS , order = 15)
     private  LoginType loginType;
@@ -102,32 +122,9 @@ public class InvokeDynamicScan implements Callable<Integer> {
     private String loginPassword;
     private File loginSequenceFile;
 
-    @Option(names = {"--serviceUrl"}, description = "[Optional] AppScan Service URL", required = false , order = 19)
-    private String serviceUrl;
-
-    private Boolean acceptssl;
-
-    @Option(names = {"--acceptssl"},defaultValue = "false",  paramLabel = "BOOLEAN" , description = "[Optional] Ignore untrusted certificates when connecting to AppScan 360°. Only intended for testing purposes. Not applicable to AppScan on Cloud.", required = false ,showDefaultValue = Help.Visibility.ALWAYS , order = 20)
-    public void setAcceptssl(String value) {
-        if(null!=key && !key.startsWith("local_") && (!value.isBlank()&&!"false".equalsIgnoreCase(value))){
-            logger.warn(messageBundle.getString("error.acceptssl.without.a360"));
-        }
-        if(null!=key && key.startsWith("local_")){
-            boolean invalid = !"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value);
-
-            if (invalid) {
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.invalid.acceptssl"), value));
-            }else if ("true".equalsIgnoreCase(value) && serviceUrl==null){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.acceptssl.without.serviceurl")));
-            }
-            acceptssl = Boolean.parseBoolean(value);
-        }
-    }
     @Option(names = {"--presenceId"}, description = "[Optional] For sites not available on the internet, provide the ID of the AppScan Presence that can be used for the scan. This option is applicable for AppScan on CLoud only.", required = false ,order = 11)
     public void setPresenceId(String value) {
-        if(key.startsWith("local_")){
+        if(credentials.isLocal()){
             throw new ParameterException(spec.commandLine(),
                     String.format(messageBundle.getString("error.invalid.presenceId.withlocalkey"), value));
         }
@@ -171,16 +168,6 @@ public class InvokeDynamicScan implements Callable<Integer> {
             return false;
         }
     }
-    @Option(names = {"--failBuildNonCompliance"},defaultValue = "false",paramLabel = "BOOLEAN",  description = "[Optional] Fail the job if one or more issues are found which are non compliant with respect to the selected application's policies.", required = false ,showDefaultValue = Visibility.ALWAYS , order = 13)
-    public void setFailBuildNonCompliance(String value) {
-        boolean invalid = !"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value);
-
-        if (invalid) {
-            throw new ParameterException(spec.commandLine(),
-                    String.format(messageBundle.getString("error.invalid.failBuildNonCompliance"), value));
-        }
-        failBuildNonCompliance = Boolean.parseBoolean(value);
-    }
     @Option(names = {"--waitForResults"},defaultValue = "true",  paramLabel = "BOOLEAN" , description = "[Optional] Suspend the job until the security analysis results are available.", required = false ,showDefaultValue = Visibility.ALWAYS , order = 12)
     public void setWaitForResults(String value) {
 
@@ -194,7 +181,7 @@ public class InvokeDynamicScan implements Callable<Integer> {
     }
     @Option(names = {"--allowIntervention"},defaultValue = "false",  paramLabel = "BOOLEAN" , description = "[Optional] When set to true, our scan enablement team will step in if the scan fails, or if no issues are found, and try to fix the configuration. This may delay the scan result. This option is valid only for AppScan on Cloud scans.", required = false ,showDefaultValue = Visibility.ALWAYS , order = 10)
     public void setAllowIntervention(String value) {
-        if(null!=key && key.startsWith("local_") && (!value.isBlank()&&!"false".equalsIgnoreCase(value))){
+        if(credentials.isLocal() && (!value.isBlank()&&!"false".equalsIgnoreCase(value))){
             throw new ParameterException(spec.commandLine(),
                     String.format(messageBundle.getString("error.invalid.allowIntervention.withlocalkey")));
         }
@@ -237,52 +224,107 @@ public class InvokeDynamicScan implements Callable<Integer> {
         loginSequenceFile = file;
     }
 
+    @Option(names = {"--metadataCache"}, arity = "0..1", fallbackValue = "", paramLabel = "DIR", description = "[Optional] Reuse the application and presence lists across CLI runs. The lists are cached in DIR (default: ~/.appscan/metadata).", required = false, order = 33)
+    private String metadataCacheDir;
+
+    private long metadataTtl;
+
+    @Option(names = {"--metadataTtl"}, defaultValue = "900", paramLabel = "SECONDS", description = "[Optional] Time the cached lists are used before they are checked with the service again.", required = false, showDefaultValue = Visibility.ALWAYS, order = 34)
+    public void setMetadataTtl(long value) {
+        if (value < 0) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.metadataTtl"), value));
+        }
+        metadataTtl = value;
+    }
+
+    @Option(names = {"--refresh"}, description = "[Optional] Fetch the lists from the service instead of using the cached ones, and update the cache.", required = false, order = 35)
+    private boolean refresh;
+
+    @Option(names = {"--checkpoint"}, arity = "0..1", fallbackValue = "", paramLabel = "FILE", description = "[Optional] Record the submitted scan in FILE (default: a file in AppscanReports specific to the application, scan name and target). When the job is retried, the CLI resumes waiting for the recorded scan instead of submitting a new one.", required = false, order = 28)
+    private String checkpointFile;
+
+    private static final int STAGE_TIMEOUT_SECONDS = 90;
+    private static final int ISSUE_PAGE_SIZE = 500;
+    private static final int ISSUE_CONCURRENCY = 4;
+    private static final int DOWNLOAD_ATTEMPTS = 3;
+    private volatile CompletableFuture<Void> postScanStages = CompletableFuture.completedFuture(null);
+
+    private boolean printProgress = true;
+    private ScanMonitor scanMonitor;
+    private volatile String scanId;
+    private volatile CloudAuthenticationHandler scanAuthHandler;
+    private volatile ScanSnapshot lastSnapshot;
+    private final ScanMetrics metrics = new ScanMetrics();
+
     @Override
     public Integer call() throws Exception {
        return invokeDynamicScan();
     }
     @Command(name = "failbuildif", description = "[Optional] A list of conditions that will fail the build. These conditions are logically \"OR\"'d together, so if one of the conditions is met, the build will fail.")
-    int failbuildif(@Option(names = {"--totalissuesgt", "-ti"}, description = "Fail build if total issues greater than", defaultValue = Integer.MAX_VALUE + "") int totalissuesgt, @Option(names = {"--highissuesgt", "-hi"}, description = "Fail build if high sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int highissuesgt, @Option(names = {"--medissuesgt", "-mi"}, description = "Fail build if medium sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int medissuesgt, @Option(names = {"--lowissuesgt", "-li"}, description = "Fail build if low sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int lowissuesgt, @Option(names = {"--criticalissuesgt", "-ci"}, description = "Fail build if critical sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int criticalissuesgt) {
+    int failbuildif(@Option(names = {"--totalissuesgt", "-ti"}, description = "Fail build if total issues greater than", defaultValue = Integer.MAX_VALUE + "") int totalissuesgt, @Option(names = {"--highissuesgt", "-hi"}, description = "Fail build if high sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int highissuesgt, @Option(names = {"--medissuesgt", "-mi"}, description = "Fail build if medium sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int medissuesgt, @Option(names = {"--lowissuesgt", "-li"}, description = "Fail build if low sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int lowissuesgt, @Option(names = {"--criticalissuesgt", "-ci"}, description = "Fail build if critical sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int criticalissuesgt, @Option(names = {"--newissuesgt", "-ni"}, description = "Fail build if issues not in the baseline greater than", defaultValue = Integer.MAX_VALUE + "") int newissuesgt, @Option(names = {"--newcriticalissuesgt", "-nci"}, description = "Fail build if critical sev issues not in the baseline greater than", defaultValue = Integer.MAX_VALUE + "") int newcriticalissuesgt, @Option(names = {"--newhighissuesgt", "-nhi"}, description = "Fail build if high sev issues not in the baseline greater than", defaultValue = Integer.MAX_VALUE + "") int newhighissuesgt) {
 
-            if(totalissuesgt==Integer.MAX_VALUE && highissuesgt==Integer.MAX_VALUE && medissuesgt==Integer.MAX_VALUE && lowissuesgt==Integer.MAX_VALUE && criticalissuesgt==Integer.MAX_VALUE){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.failbuildif.nothresholdspecified")));
-              }
-             StringBuilder thresholdErrMsg = new StringBuilder();
-             if(totalissuesgt<0){
-                 thresholdErrMsg.append(messageBundle.getString("error.invalid.totalissuesgt"));
-             }
-             if(highissuesgt<0){
-                 thresholdErrMsg.append(messageBundle.getString("error.invalid.highissuesgt"));
-             }
-            if(medissuesgt<0){
-                thresholdErrMsg.append(messageBundle.getString("error.invalid.medissuesgt"));
-             }
-            if(lowissuesgt<0){
-                thresholdErrMsg.append(messageBundle.getString("error.invalid.lowissuesgt"));
-             }
-            if(criticalissuesgt<0){
-                thresholdErrMsg.append(messageBundle.getString("error.invalid.criticalissuesgt"));
-            }
-            if(totalissuesgt<0 || highissuesgt<0 || medissuesgt<0 || lowissuesgt<0 || criticalissuesgt<0 ){
-                throw new ParameterException(spec.commandLine(),thresholdErrMsg.toString());
-            }
-            if(!waitForResults){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.invalid.waitforresults.withfailbuildif")));
+            ScanThresholds thresholds = new ScanThresholds(totalissuesgt, criticalissuesgt, highissuesgt, medissuesgt, lowissuesgt, newissuesgt, newcriticalissuesgt, newhighissuesgt);
+            validateThresholds(thresholds);
 
+        int exitCode = 10;
+        try{
+            Optional<ScanResults> results = runScanAndGetResults();
+            exitCode = evaluateResults(results, thresholds);
+            return exitCode;
+        }
+        catch (Exception e){
+            return 10;
+        }
+        finally {
+            awaitPostScanStages();
+            writeMetrics(exitCode);
+        }
+    }
+
+    // Validates the failbuildif thresholds against each other and against the scan options.
+    void validateThresholds(ScanThresholds thresholds) {
+        if(!thresholds.isSpecified()){
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.failbuildif.nothresholdspecified")));
+        }
+        List<String> invalidThresholds = thresholds.getInvalidThresholds();
+        if(!invalidThresholds.isEmpty()){
+            StringBuilder thresholdErrMsg = new StringBuilder();
+            for(String messageKey : invalidThresholds){
+                thresholdErrMsg.append(messageBundle.getString(messageKey));
             }
-            if(failBuildNonCompliance){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.invalid.failbuildif.withfailBuildNonCompliance")));
-            }
+            throw new ParameterException(spec.commandLine(),thresholdErrMsg.toString());
+        }
+        if(!waitForResults){
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.waitforresults.withfailbuildif")));
 
+        }
+        if(resultOptions.isFailBuildNonCompliance()){
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.failbuildif.withfailBuildNonCompliance")));
+        }
+        if(thresholds.hasNewIssueThresholds() && resultOptions.getBaselineFile() == null && resultOptions.getBaselineScanId() == null){
+            throw new ParameterException(spec.commandLine(), messageBundle.getString("error.baseline.required"));
+        }
+        if(resultOptions.getBaselineFile() != null && resultOptions.getBaselineScanId() != null){
+            throw new ParameterException(spec.commandLine(), messageBundle.getString("error.baseline.both"));
+        }
+    }
 
-        try{
-            Optional<ScanResults> results = runScanAndGetResults();
-            if (results.isPresent() && (results.get().getTotalFindings() > totalissuesgt || results.get().getCriticalCount() > criticalissuesgt ||
-                    results.get().getHighCount() > highissuesgt || results.get().getMediumCount() > medissuesgt || results.get().getLowCount() > lowissuesgt )) {
+    // Validates the options of a scan that has no failbuildif thresholds.
+    void validateOptions() {
+        if(!waitForResults && resultOptions.isFailBuildNonCompliance()){
+            throw new ParameterException(spec.commandLine(),
+                    messageBundle.getString("error.invalid.waitforresults.withfailBuildNonCompliance"));
+        }
+    }
 
+    // Returns the exit code for the scan results: 10 if a threshold is exceeded, 12 for non-compliant issues, otherwise 0.
+    int evaluateResults(Optional<ScanResults> results, ScanThresholds thresholds) {
+        if(thresholds.isSpecified()){
+            if (results.isPresent() && (thresholds.isExceededBy(results.get()) || isExceededByNewIssues(thresholds))) {
                 logger.error(messageBundle.getString("error.threshold.exceeded"));
                 return 10;
             } else {
@@ -290,135 +332,437 @@ public class InvokeDynamicScan implements Callable<Integer> {
                 return 0;
             }
         }
-        catch (Exception e){
-            return 10;
+        if(resultOptions.isFailBuildNonCompliance() && results.isPresent() && results.get().getTotalFindings()>0){
+            logger.error(messageBundle.getString("error.noncomplaint.issues"));
+            return 12;
         }
+        return 0;
     }
+
+    // Compares the issues of the scan with the baseline. If they can not be compared, the condition counts as exceeded.
+    private boolean isExceededByNewIssues(ScanThresholds thresholds) {
+        if(!thresholds.hasNewIssueThresholds()){
+            return false;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            BaselineIndex baseline = loadBaseline();
+            NewIssueCounter counter = new NewIssueCounter(baseline);
+            new PagedExporter<>(new IssueSource(scanAuthHandler, scanId, ISSUE_PAGE_SIZE), ISSUE_CONCURRENCY, "appscan-issues").export(counter);
+            logger.info(messageBundle.getString("info.new.issues"), counter.getTotal(), counter.getCritical(), counter.getHigh(),
+                    baseline.size(), System.currentTimeMillis() - start);
+            return thresholds.isExceededByNewIssues(counter.getTotal(), counter.getCritical(), counter.getHigh());
+        } catch (IOException e) {
+            logger.error(String.format(messageBundle.getString("error.baseline.compare"), e.getMessage()));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+
+    private BaselineIndex loadBaseline() throws IOException, InterruptedException {
+        if(resultOptions.getBaselineFile() != null){
+            return BaselineIndex.open(resultOptions.getBaselineFile());
+        }
+        FingerprintCollector collector = new FingerprintCollector();
+        new PagedExporter<>(new IssueSource(scanAuthHandler, resultOptions.getBaselineScanId(), ISSUE_PAGE_SIZE), ISSUE_CONCURRENCY, "appscan-issues").export(collector);
+        return BaselineIndex.of(collector.getFingerprints());
+    }
+
     private int invokeDynamicScan() throws Exception{
 
-            if(!waitForResults && failBuildNonCompliance){
+            if(!waitForResults && resultOptions.isFailBuildNonCompliance()){
                 logger.error(messageBundle.getString("error.invalid.waitforresults.withfailBuildNonCompliance"));
                 return 2;
             }
+            int exitCode = 10;
             try{
                 Optional<ScanResults> results =  runScanAndGetResults();
-                if(failBuildNonCompliance && results.isPresent() && results.get().getTotalFindings()>0){
-                    logger.error(messageBundle.getString("error.noncomplaint.issues"));
-                    return 12;
-                }
+                exitCode = evaluateResults(results, ScanThresholds.none());
+                return exitCode;
             }catch (ParameterException pe){
+                exitCode = 2;
                 throw pe;
             }catch (Exception e){
                 return 10;
+            }finally {
+                awaitPostScanStages();
+                writeMetrics(exitCode);
             }
-
-        return 0;
     }
     private  Optional<ScanResults> runScanAndGetResults() throws Exception {
+        metrics.start();
+        metrics.setAppId(appId);
+        connection.configureTls();
+        CloudAuthenticationHandler authHandler;
+        try (ScanMetrics.Timer timer = metrics.time(ScanMetrics.Phase.login)) {
+            authHandler = credentials.authenticate(connection.getTokenCache());
+        }
+        preflight(authHandler);
+        return runScan(authHandler);
+    }
 
-        CloudAuthenticationHandler authHandler = new CloudAuthenticationHandler();
-        if(null!=serviceUrl && key.startsWith("local_")){
-            if(serviceUrl.endsWith("/")){
-                serviceUrl = serviceUrl.substring(0, serviceUrl.length()-1);
+    // Writes the --metricsFile files. A file that can not be written does not change the exit code.
+    void writeMetrics(int exitCode) {
+        for (File file : resultOptions.getMetricsFiles()) {
+            try {
+                MetricsWriter.write(metrics, exitCode, file);
+            } catch (IOException e) {
+                logger.warn(String.format(messageBundle.getString("error.metrics.write"), file.getAbsolutePath(), e.getMessage()));
             }
-            boolean isValidURL = ValidationUtil.checkASoCConnectivity(serviceUrl,acceptssl);
-            if(!isValidURL){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.unreachable.serviceurl")));
+        }
+    }
+
+    // Checks everything the scan needs before anything is uploaded or submitted. The checks that call the service run at
+    // the same time, and all the problems they find are reported together.
+    void preflight(CloudAuthenticationHandler authHandler) throws Exception {
+        long start = System.currentTimeMillis();
+        MetadataCache metadataCache = getMetadataCache();
+        List<CompletableFuture<List<String>>> checks = new ArrayList<>();
+        checks.add(runCheck(() -> checkApplication(authHandler, metadataCache)));
+        if(presenceId!=null){
+            checks.add(runCheck(() -> checkPresence(authHandler, metadataCache)));
+        }else{
+            checks.add(runCheck(() -> checkTarget(authHandler)));
+        }
+        List<String> errors = checkFiles();
+        for (CompletableFuture<List<String>> check : checks) {
+            errors.addAll(check.join());
+        }
+        metrics.recordMillis(ScanMetrics.Phase.preflight, System.currentTimeMillis() - start);
+        logger.debug("Preflight checks completed in {} ms", System.currentTimeMillis() - start);
+        if(!errors.isEmpty()){
+            throw new ParameterException(spec.commandLine(), String.join(System.lineSeparator(), errors));
+        }
+    }
+
+    // Runs a check on the shared executor. A check that fails unexpectedly reports its failure as a problem.
+    private static CompletableFuture<List<String>> runCheck(Callable<List<String>> check) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return check.call();
+            } catch (Exception e) {
+                return Collections.singletonList(String.valueOf(e.getMessage()));
             }
-            authHandler = new CloudAuthenticationHandler(serviceUrl , acceptssl);
+        }, ScanThreads.shared());
+    }
+
+    private List<String> checkApplication(CloudAuthenticationHandler authHandler, MetadataCache metadataCache) throws IOException {
+        boolean exists = metadataCache!=null
+                ? metadataCache.find(authHandler, MetadataCache.Resource.Applications, appId)!=null
+                : ValidationUtil.applicationExists(appId, authHandler);
+        return exists ? Collections.emptyList()
+                : Collections.singletonList(String.format(messageBundle.getString("error.invalid.appId"), appId));
+    }
+
+    private List<String> checkPresence(CloudAuthenticationHandler authHandler, MetadataCache metadataCache) throws Exception {
+        Map<String, String> presence;
+        if(metadataCache!=null){
+            presence = metadataCache.find(authHandler, MetadataCache.Resource.Presences, presenceId);
         }else{
-            authHandler = new CloudAuthenticationHandler();
+            // The list tells whether the presence exists and the details tell its status, so both are requested at once.
+            CompletableFuture<Map<String, String>> details = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return getPresenceDetails(authHandler, presenceId);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, ScanThreads.shared());
+            presence = getPresenceMap(authHandler).containsKey(presenceId) ? joinDetails(details) : null;
         }
+        if(presence==null){
+            return Collections.singletonList(messageBundle.getString("error.invalid.presenceId"));
+        }else if("Inactive".equalsIgnoreCase(presence.get("Status"))){
+            return Collections.singletonList(messageBundle.getString("error.inactive.presenceId"));
+        }
+        return Collections.emptyList();
+    }
 
+    private static Map<String, String> joinDetails(CompletableFuture<Map<String, String>> details) throws Exception {
         try {
-            boolean isAuthenticated = authHandler.updateCredentials(key, secret);
+            Map<String, String> presence = details.join();
+            return presence != null ? presence : Collections.emptyMap();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
 
-            if(!isAuthenticated) {
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.invalid.credentials")));
+    private List<String> checkTarget(CloudAuthenticationHandler authHandler) {
+        return ValidationUtil.isValidUrl(target,authHandler) ? Collections.emptyList()
+                : Collections.singletonList(messageBundle.getString("error.unreachable.target"));
+    }
+
+    // Checks the login settings and that the scan and login files can be read. The options are parsed in the order they
+    // are given, so the file options may have been checked before the login type was known.
+    private List<String> checkFiles() {
+        List<String> errors = new ArrayList<>();
+        if(loginType==LoginType.Automatic && (null==loginUser || loginUser.isBlank() || null==loginPassword || loginPassword.isBlank())){
+            errors.add(messageBundle.getString("error.loginUser.required"));
+        }
+        if(loginType==LoginType.Manual){
+            if(loginSequenceFile==null){
+                errors.add(messageBundle.getString("error.trafficfile.required"));
+            }else if(!loginSequenceFile.getName().toLowerCase().endsWith(TEMPLATE_EXTENSION3)){
+                errors.add(messageBundle.getString("error.invalid.traficfile"));
+            }else{
+                checkReadable(loginSequenceFile, errors);
             }
+        }
+        if(scanFile!=null){
+            checkReadable(new File(scanFile), errors);
+        }
+        return errors;
+    }
 
-        } catch (Exception pe){
-            throw new ParameterException(spec.commandLine(),
-                    String.format(messageBundle.getString("error.invalid.credentials")));
+    private void checkReadable(File file, List<String> errors) {
+        if(!file.isFile() || !Files.isReadable(file.toPath())){
+            errors.add(String.format(messageBundle.getString("error.invalid.filepath"), file.getAbsolutePath()));
+        }else if(file.length()==0){
+            errors.add(String.format(messageBundle.getString("error.empty.file"), file.getAbsolutePath()));
         }
+    }
 
-        if(presenceId!=null){
-            Map<String, String> presenceMap = getPresenceMap(authHandler);
-            if(!presenceMap.containsKey(presenceId)){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.invalid.presenceId")));
-            }else{
-                Map<String, String> presenceDetails = getPresenceDetails(authHandler,presenceId);
-                if("Inactive".equalsIgnoreCase(presenceDetails.get("Status"))){
-                    throw new ParameterException(spec.commandLine(),
-                            String.format(messageBundle.getString("error.inactive.presenceId")));
+    // Submits the scan and, unless --waitForResults is false, waits for it and downloads its report and logs.
+    // With --checkpoint, a scan submitted by an earlier run that did not finish is resumed instead of submitting a new one.
+    Optional<ScanResults> runScan(CloudAuthenticationHandler authHandler) throws Exception {
+        scanAuthHandler = authHandler;
+        IProgress progress = new ScanProgress();
+        ScanCheckpoint checkpoint = getCheckpoint();
+        ScanHandle scan;
+        try {
+            scan = resumeScan(checkpoint, authHandler, progress);
+            if(scan == null){
+                IScan newScan;
+                try (ScanMetrics.Timer timer = metrics.time(ScanMetrics.Phase.submit)) {
+                    newScan = getScan(authHandler, progress);
+                    newScan.run();
+                }
+                scan = ScanHandle.of(newScan);
+                if(checkpoint != null && waitForResults){
+                    checkpoint.write(scan, appId, authHandler.getServer(), ScanCheckpoint.Phase.Submitted);
                 }
             }
-        }else{
-            boolean isValidURL = ValidationUtil.isValidUrl(target,authHandler);
-            if(!isValidURL){
-                throw new ParameterException(spec.commandLine(),
-                        String.format(messageBundle.getString("error.unreachable.target")));
-            }
+        } catch (ParameterException pe) {
+            throw pe;
+        } catch (Exception e) {
+            logger.error(e.getMessage());
+            throw e;
         }
-        Optional<ScanResults> results = Optional.empty();
-        IScan scan = null;
-        CloudResultsProvider resultsProvider = null;
+        scanId = scan.getScanId();
+        metrics.setScan(scan.getScanId(), scan.getName());
+        if(!waitForResults){
+            return Optional.empty();
+        }
+        return waitForScan(authHandler, scan, progress, checkpoint);
+    }
+
+    // Waits for a scan that was submitted earlier, then downloads its report and logs. Nothing is submitted.
+    Optional<ScanResults> attach(CloudAuthenticationHandler authHandler, ScanHandle scan) throws Exception {
+        metrics.start();
+        metrics.setAppId(appId);
+        scanAuthHandler = authHandler;
+        scanId = scan.getScanId();
+        metrics.setScan(scan.getScanId(), scan.getName());
+        return waitForScan(authHandler, scan, new ScanProgress(), null);
+    }
+
+    // Waits for the scan, then starts the report, scan log and summary stages, which run concurrently on the shared
+    // executor. The results are returned as soon as they are known, so the exit code does not wait for the downloads.
+    private Optional<ScanResults> waitForScan(CloudAuthenticationHandler authHandler, ScanHandle scan, IProgress progress, ScanCheckpoint checkpoint) throws Exception {
+        CloudResultsProvider resultsProvider = new NonCompliantIssuesResultProvider(scan.getScanId(), scan.getType(), scan.getServiceProvider(), progress);
+        List<CompletableFuture<Void>> stages = new ArrayList<>();
         try {
-            IProgress progress = new ScanProgress();
-            scan = getScan(authHandler, progress);
-            scan.run();
-            if(!waitForResults){
-                return results;
+            Optional<ScanResults> results = getScanResults(scan, progress, authHandler, resultsProvider);
+            if (!results.isPresent()) {
+                logger.error(messageBundle.getString("error.invalid.scanresult"));
+                throw new AbortException(com.hcl.appscan.sdk.Messages.getMessage(ScanConstants.SCAN_FAILED, (" Scan Id: " + scan.getScanId() +
+                        ", Scan Name: " + scan.getName())));
             }
-            resultsProvider = new NonCompliantIssuesResultProvider(scan.getScanId(), scan.getType(), scan.getServiceProvider(), progress);
-            results = getScanResults(scan, progress, authHandler, resultsProvider);
-            processScanResults(results, resultsProvider, scan);
-
+            ScanResults scanResults = results.get();
+            if (!resultOptions.isSkipped(PostScanStage.summary)) {
+                stages.add(runStage("scan summary", () -> {
+                    logScanResults(scan, scanResults);
+                    return null;
+                }, STAGE_TIMEOUT_SECONDS));
+            }
+            if (!resultOptions.isSkipped(PostScanStage.report)) {
+                logger.info("Downloading Scan Report. Please wait...");
+                // The reports are generated and downloaded at the same time, each with its own provider.
+                for (ReportFormat format : resultOptions.getReportFormats()) {
+                    IResultsProvider reportProvider = new NonCompliantIssuesResultProvider(scan.getScanId(), scan.getType(), scan.getServiceProvider(), progress);
+                    reportProvider.setReportFormat(format.name());
+                    stages.add(runStage(format + " report", () -> {
+                        ArtifactDownload.Result report = getReport(reportProvider, scanResults);
+                        if (report == null) {
+                            return "Report " + getReportName(reportProvider, scanResults) + " was not downloaded: the file already exists or the report is not available.";
+                        }
+                        return "Report downloaded successfully. Download location - " + report;
+                    }, 0));
+                }
+            }
+            if(checkpoint != null){
+                checkpoint.write(scan, appId, authHandler.getServer(), ScanCheckpoint.Phase.Completed);
+            }
+            return results;
         } catch (ParameterException pe) {
             throw pe;
         } catch (Exception e) {
             logger.error(e.getMessage());
+            // A retried run must not attach to a failed scan again. When the service could not be reached or the wait
+            // was interrupted, the scan may still be running, so the checkpoint stays at Submitted.
+            if(checkpoint != null && isFailed(lastSnapshot)){
+                checkpoint.write(scan, appId, authHandler.getServer(), ScanCheckpoint.Phase.Failed);
+            }
             throw e;
         } finally {
-            if(null!=scan && null!=resultsProvider)
-                getScanLogs(scan, resultsProvider);
+            // The scan log is also useful when the scan failed.
+            if (!resultOptions.isSkipped(PostScanStage.scanLog)) {
+                stages.add(runStage("scan log", () -> getScanLog(scan, resultsProvider), 0));
+            }
+            postScanStages = CompletableFuture.allOf(stages.toArray(new CompletableFuture[0]));
         }
-        return results;
     }
 
-    private void processScanResults(Optional<ScanResults> results ,IResultsProvider resultsProvider , IScan scan ) throws Exception {
-        if (results.isPresent()) {
-            logScanResults(scan, results.get());
-            logger.info("Downloading Scan Report. Please wait...");
-            resultsProvider.setReportFormat(reportFormat.name());
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            Callable<String> downloadReportTask = () -> {
-                File report = getReport(resultsProvider, results.get());
-                String reportPath = report.getAbsolutePath();
-                return "Report downloaded successfully. Download location - " + reportPath;
-            };
+    /**
+     * Runs a post-scan stage on the shared executor. A stage that does not finish in time is interrupted. Failures are
+     * logged: the stages only produce artifacts, they do not affect the exit code.
+     *
+     * @param name The name of the stage, for the log.
+     * @param stage The stage. Returns the message to log on success, or null.
+     * @param timeoutSeconds The time the stage may take, or 0 for stages that bound their own time, like downloads.
+     * @return A future that completes when the stage has finished, failed or timed out.
+     */
+    private CompletableFuture<Void> runStage(String name, Callable<String> stage, int timeoutSeconds) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Future<?> task = ScanThreads.shared().submit(() -> {
             try {
-                Future<String> future = executor.submit(downloadReportTask);
-                String reportDownloadResult = future.get(90, TimeUnit.SECONDS);
-                logger.info(reportDownloadResult);
-            } catch (TimeoutException e) {
-                logger.error("Unable to download the report. Operation timed out!");
-            } catch (Exception e) {
-                logger.error("Caught Exception while downloading the report : Error - "+ e.getMessage());
-            } finally {
-                executor.shutdown();
+                result.complete(stage.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
             }
+        });
+        CompletableFuture<String> bounded = timeoutSeconds > 0 ? result.orTimeout(timeoutSeconds, TimeUnit.SECONDS) : result;
+        return bounded.handle((message, e) -> {
+            if (e instanceof TimeoutException) {
+                task.cancel(true);
+                logger.error("Unable to download the {}. Operation timed out!", name);
+            } else if (e != null) {
+                logger.error("Caught Exception while processing the {} : Error - {}", name, e.getMessage());
+            } else if (message != null) {
+                logger.info(message);
+            }
+            return null;
+        });
+    }
 
-        } else {
-            logger.error(messageBundle.getString("error.invalid.scanresult"));
-            throw new AbortException(com.hcl.appscan.sdk.Messages.getMessage(ScanConstants.SCAN_FAILED, (" Scan Id: " + scan.getScanId() +
-                    ", Scan Name: " + scan.getName())));
+    /**
+     * Waits until the report, scan log and summary stages of the scan have finished.
+     */
+    void awaitPostScanStages() {
+        try {
+            postScanStages.join();
+        } catch (CancellationException | CompletionException e) {
+            // Failures are logged by the stages.
+        }
+    }
 
+    // Returns the scan recorded in the checkpoint whose results were not processed, or null if a new scan must be
+    // submitted. Failed scans are not resumed; a Ready scan is attached to and its results are processed at once.
+    private ScanHandle resumeScan(ScanCheckpoint checkpoint, CloudAuthenticationHandler authHandler, IProgress progress) {
+        if(checkpoint == null){
+            return null;
         }
+        String checkpointScanId = checkpoint.getResumableScan(appId, authHandler.getServer());
+        if(checkpointScanId == null){
+            return null;
+        }
+        try {
+            ScanHandle scan = getExistingScan(checkpointScanId, authHandler, progress);
+            if(isFailed(new ScanPoller(scan.getScanId(), scan.getServiceProvider()).poll())){
+                logger.warn(String.format(messageBundle.getString("error.checkpoint.failed"), checkpointScanId));
+                return null;
+            }
+            logger.info(messageBundle.getString("info.scan.resumed"), scan.getName(), scan.getScanId(), checkpoint.getFile().getAbsolutePath());
+            return scan;
+        } catch (Exception e) {
+            logger.warn(String.format(messageBundle.getString("error.checkpoint.resume"), checkpointScanId, e.getMessage()));
+            return null;
+        }
+    }
 
+    private static boolean isFailed(ScanSnapshot snapshot) {
+        return snapshot != null && CoreConstants.FAILED.equalsIgnoreCase(snapshot.getStatus());
+    }
+
+    /**
+     * Looks up a scan that was submitted earlier.
+     *
+     * @param existingScanId The ID of the scan.
+     * @param authHandler The authentication handler.
+     * @param progress The progress for the service calls.
+     * @return The handle of the scan.
+     * @throws IOException If the scan does not exist or can not be retrieved.
+     */
+    static ScanHandle getExistingScan(String existingScanId, CloudAuthenticationHandler authHandler, IProgress progress) throws IOException, JSONException {
+        IScanServiceProvider serviceProvider = new CloudScanServiceProvider(progress, authHandler);
+        JSONObject details = serviceProvider.getScanDetails(existingScanId);
+        if(details == null || !details.has("Name")){
+            throw new IOException(String.format(ResourceBundle.getBundle("messages").getString("error.scan.notfound"), existingScanId));
+        }
+        return new ScanHandle(existingScanId, details.getString("Name"), DYNAMIC_ANALYZER, serviceProvider);
+    }
+
+    private ScanCheckpoint getCheckpoint() {
+        if(checkpointFile == null){
+            return null;
+        }
+        if(!checkpointFile.isBlank()){
+            return new ScanCheckpoint(new File(checkpointFile));
+        }
+        // The default checkpoint is specific to the scan, so that different scans of a job do not resume each other.
+        String cwd = Path.of("").toAbsolutePath().toString();
+        String baseDir = cwd+separator+messageBundle.getString("report.download.location");
+        String scanKey = appId + "|" + scanName + "|" + target;
+        return new ScanCheckpoint(new File(baseDir, "checkpoint_" + Integer.toHexString(scanKey.hashCode()) + ".json"));
+    }
+
+    // Lets several scans share one monitor. Without it, each scan monitors the service on its own.
+    void setScanMonitor(ScanMonitor scanMonitor) {
+        this.scanMonitor = scanMonitor;
+    }
+
+    void setPrintProgress(boolean printProgress) {
+        this.printProgress = printProgress;
+    }
+
+    String getAppId() {
+        return appId;
+    }
+
+    String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return The ID of the submitted scan, or null if it has not been submitted yet.
+     */
+    String getScanId() {
+        return scanId;
+    }
+
+    /**
+     * @return The last status of the scan, or null if it has not been checked yet.
+     */
+    ScanSnapshot getLastSnapshot() {
+        return lastSnapshot;
+    }
+
+    private MetadataCache getMetadataCache() {
+        if (metadataCacheDir == null) {
+            return null;
+        }
+        return new MetadataCache(metadataCacheDir.isBlank() ? MetadataCache.getDefaultDirectory() : new File(metadataCacheDir), metadataTtl, refresh);
     }
 
     private IScan getScan(CloudAuthenticationHandler authHandler, IProgress progress) throws Exception {
@@ -428,17 +772,20 @@ public class InvokeDynamicScan implements Callable<Integer> {
         return factory.create(properties, progress, authHandler);
 
     }
-    private Map<String, String> getScanProperties(Scanner scanner, CloudAuthenticationHandler authHandler) throws Exception {
+    // Package-private for the benchmarks. The scan name option is left unchanged, so every call gives the same properties
+    // apart from the timestamp.
+    Map<String, String> getScanProperties(Scanner scanner, CloudAuthenticationHandler authHandler) throws Exception {
 
         Map<String, String> properties = scanner.getProperties();
         properties.put(CoreConstants.SCANNER_TYPE, scanner.getType());
         properties.put(CoreConstants.APP_ID, appId);
+        String name;
         if(null==scanName || "".equals(scanName)){
-            scanName="DAST_"+SystemUtil.getTimeStamp()+"_"+target;
+            name="DAST_"+SystemUtil.getTimeStamp()+"_"+target;
         }else{
-            scanName = scanName + "_" + SystemUtil.getTimeStamp();
+            name = scanName + "_" + SystemUtil.getTimeStamp();
         }
-        properties.put(CoreConstants.SCAN_NAME, scanName);
+        properties.put(CoreConstants.SCAN_NAME, name);
         properties.put(CoreConstants.EMAIL_NOTIFICATION, Boolean.toString(emailNotification));
         properties.put(FULLY_AUTOMATIC, Boolean.toString(!allowIntervention));
         properties.put(CoreConstants.SERVER_URL, authHandler.getServer());
@@ -477,7 +824,7 @@ public class InvokeDynamicScan implements Callable<Integer> {
         return m_scanner;
     }
 
-    public File getReport(IResultsProvider provider, ScanResults results) throws IOException {
+    public ArtifactDownload.Result getReport(IResultsProvider provider, ScanResults results) throws IOException, InterruptedException {
 
         String cwd = Path.of("").toAbsolutePath().toString();
         String baseDir = cwd+separator+messageBundle.getString("report.download.location");
@@ -485,8 +832,13 @@ public class InvokeDynamicScan implements Callable<Integer> {
         File report = new File(baseDir , getReportName(provider, results));
 
         if (report.getCanonicalPath().startsWith(baseDir) && !report.isFile()) {
-            provider.getResultsFile(report, null);
-            return report;
+            ArtifactDownload.Result result = new ArtifactDownload("report", report, file -> provider.getResultsFile(file, null), resultOptions.getGenerationTimeout(), resultOptions.getDownloadIdleTimeout(), DOWNLOAD_ATTEMPTS).run();
+            if (result != null) {
+                metrics.recordMillis(ScanMetrics.Phase.reportGeneration, result.getWaitMillis());
+                metrics.recordMillis(ScanMetrics.Phase.reportDownload, result.getElapsedMillis() - result.getWaitMillis());
+                recordDownload(result);
+            }
+            return result;
         }else{
             return null;
         }
@@ -494,6 +846,11 @@ public class InvokeDynamicScan implements Callable<Integer> {
 
     }
 
+    private void recordDownload(ArtifactDownload.Result result) {
+        metrics.add(ScanMetrics.Counter.bytesDownloaded, result.getBytes());
+        metrics.add(ScanMetrics.Counter.retries, result.getAttempts() - 1);
+    }
+
     private String getReportName(IResultsProvider provider, ScanResults results) {
         String name = (provider.getType() + results.getName());
         String sanitizedName = sanitizeFileName(name);
@@ -507,71 +864,64 @@ public class InvokeDynamicScan implements Callable<Integer> {
         return input.replaceAll(regex, "");
     }
 
-    private Optional<ScanResults> getScanResults(IScan scan, IProgress progress, CloudAuthenticationHandler authHandler, IResultsProvider provider) throws Exception {
+    private Optional<ScanResults> getScanResults(ScanHandle scan, IProgress progress, CloudAuthenticationHandler authHandler, IResultsProvider provider) throws Exception {
 
-        String m_scanStatus = provider.getStatus();
+        ScanPoller poller = new ScanPoller(scan.getScanId(), scan.getServiceProvider());
+        ScanSnapshot snapshot;
+        String m_scanStatus;
         Optional<ScanResults> results = Optional.empty();
-        int requestCounter = 0;
+        PollScheduler pollScheduler = getPollScheduler();
         logger.info(messageBundle.getString("info.wait.for.scan"));
         logger.info(messageBundle.getString("info.scan.progress"),scan.getName(),scan.getScanId());
-        try{
-            IScanServiceProvider scanServiceProvider = scan.getServiceProvider();
-            while (m_scanStatus != null && (m_scanStatus.equalsIgnoreCase(CoreConstants.INQUEUE) || m_scanStatus.equalsIgnoreCase(CoreConstants.RUNNING) || m_scanStatus.equalsIgnoreCase(CoreConstants.UNKNOWN) || m_scanStatus.equalsIgnoreCase(CoreConstants.PAUSING) || m_scanStatus.equalsIgnoreCase(CoreConstants.PAUSED)) && requestCounter < 10) {
-                String asocServerUrl;
-                boolean isASoCServerReachable;
-
-                if(serviceUrl !=null && key.startsWith("local_")){
-                    asocServerUrl = serviceUrl;
-                    isASoCServerReachable = ValidationUtil.checkASoCConnectivity(asocServerUrl,acceptssl);
-                }else{
-                    asocServerUrl = authHandler.getServer();
-                    isASoCServerReachable = ValidationUtil.checkASoCConnectivity(asocServerUrl,false);
+        ScanMonitor monitor = scanMonitor != null ? scanMonitor : new ScanMonitor(credentials.getConnectivityMonitor(authHandler), RateLimiter.unlimited());
+        try {
+            String[] loggedStatus = new String[1];
+            snapshot = monitor.await(poller, pollScheduler, current -> {
+                lastSnapshot = current;
+                metrics.observeStatus(current.getStatus());
+                if (!current.isReachable()) {
+                    metrics.add(ScanMetrics.Counter.retries, 1);
                 }
-
-
-                if(!isASoCServerReachable){
-                    m_scanStatus = CoreConstants.UNKNOWN;
-                }else{
-                    m_scanStatus = provider.getStatus();
+                String status = ScanMonitor.getStatus(current);
+                if (!printProgress) {
+                    // Concurrent scans would overwrite each other's progress line, so only log status changes.
+                    if (!status.equalsIgnoreCase(loggedStatus[0])) {
+                        logger.info("Scan {} ( ID - {} ) status: {}", scan.getName(), scan.getScanId(), status);
+                        loggedStatus[0] = status;
+                    }
                 }
-                if(SCAN_STATUS_READY.equalsIgnoreCase(m_scanStatus)){
-                    m_scanStatus=SCAN_STATUS_COMPLETED;
+                else if (status.equalsIgnoreCase(CoreConstants.UNKNOWN)) {
+                    System.out.printf("\rScan Status : %s [ Duration : %s , Requests Sent : %s ]", status , "-" , "-");
                 }
-                if (m_scanStatus.equalsIgnoreCase(CoreConstants.UNKNOWN)) {
-                    System.out.printf("\rScan Status : %s [ Duration : %s , Requests Sent : %s ]", m_scanStatus , "-" , "-");
-                    requestCounter++;
+                else if (current.hasExecution()) {
+                    int duration = current.getDurationSec();
+                    int minutes = duration / 60;
+                    int remainingSeconds = duration % 60;
+                    String formattedDuration = String.format("%02dm %02ds", minutes, remainingSeconds);
+                    System.out.printf("\rScan Status : %s [ Duration : %s , Requests Sent : %s ]", status ,formattedDuration, current.getProgress());
                 }
-                else requestCounter = 0;
-
-                if(!CoreConstants.FAILED.equalsIgnoreCase(m_scanStatus) && !CoreConstants.UNKNOWN.equalsIgnoreCase(m_scanStatus) ){
-                    JSONObject scanSummary = scanServiceProvider.getScanDetails(scan.getScanId());
-                    if(null!=scanSummary){
-                        if(scanSummary.has("LatestExecution")){
-                            JSONObject latestExecution = scanSummary.getJSONObject("LatestExecution");
-                            int duration = latestExecution.getInt("ExecutionDurationSec");
-                            int minutes = duration / 60;
-                            int remainingSeconds = duration % 60;
-                            String formattedDuration = String.format("%02dm %02ds", minutes, remainingSeconds);
-                            System.out.printf("\rScan Status : %s [ Duration : %s , Requests Sent : %s ]", m_scanStatus ,formattedDuration, latestExecution.getString("Progress"));
-
-                        }
-
-                    }
-                }
-
-                Thread.sleep(30000);
+            });
+            lastSnapshot = snapshot;
+            metrics.observeStatus(snapshot.getStatus());
+            m_scanStatus = ScanMonitor.getStatus(snapshot);
+            if (printProgress) {
+                System.out.println();
             }
-            System.out.println();
         }catch(Exception e) {
             throw new AbortException(messageBundle.getString("error.running.scan"));
+        } finally {
+            metrics.add(ScanMetrics.Counter.statusChecks, poller.getRequestCount());
+            if (monitor != scanMonitor) {
+                monitor.close();
+            }
         }
 
 
         if (CoreConstants.FAILED.equalsIgnoreCase(m_scanStatus)) {
             String message = com.hcl.appscan.sdk.Messages.getMessage(ScanConstants.SCAN_FAILED, " Scan Name: " + scan.getName());
 
-            if (provider.getMessage() != null && provider.getMessage().trim().length() > 0) {
-                message += ", " + provider.getMessage();
+            if (snapshot.getMessage() != null && snapshot.getMessage().trim().length() > 0) {
+                message += ", " + snapshot.getMessage();
             }
             logger.error(messageBundle.getString("error.scan.cancelled"),scan.getName());
             throw new AbortException(com.hcl.appscan.sdk.Messages.getMessage(ScanConstants.SCAN_FAILED, (" Scan Id: " + scan.getScanId() +
@@ -588,7 +938,7 @@ public class InvokeDynamicScan implements Callable<Integer> {
                 scanUrlPrefix= authHandler.getServer()+"/";
             }
             String asocAppUrl = scanUrlPrefix + "main/myapps/" + appId + "/scans/" + scan.getScanId();
-            ScanResults scanresults = new ScanResults(provider, scan.getName(), provider.getStatus(), provider.getFindingsCount(), provider.getCriticalCount(), provider.getHighCount(), provider.getMediumCount(), provider.getLowCount(), provider.getInfoCount(), asocAppUrl);
+            ScanResults scanresults = new ScanResults(provider, scan.getName(), m_scanStatus, provider.getFindingsCount(), provider.getCriticalCount(), provider.getHighCount(), provider.getMediumCount(), provider.getLowCount(), provider.getInfoCount(), asocAppUrl, snapshot);
             results = Optional.of(scanresults);
 
         }
@@ -597,10 +947,16 @@ public class InvokeDynamicScan implements Callable<Integer> {
 
     }
 
-    private void logScanResults(IScan scan, ScanResults results) throws Exception {
+    private PollScheduler getPollScheduler() {
+        return resultOptions.newPollScheduler();
+    }
+
+    private void logScanResults(ScanHandle scan, ScanResults results) throws Exception {
 
-        IScanServiceProvider scanServiceProvider = scan.getServiceProvider();
-        JSONObject scanSummary = scanServiceProvider.getScanDetails(scan.getScanId());
+        JSONObject scanSummary = results.getScanDetails();
+        if (scanSummary == null) {
+            scanSummary = scan.getServiceProvider().getScanDetails(scan.getScanId());
+        }
         JSONObject createdBy = scanSummary.getJSONObject("CreatedBy");
         logger.info(messageBundle.getString("scan.summary.format"),appId,
                 scanSummary.getString("AppName"),scan.getScanId(),results.getName(),
@@ -619,35 +975,21 @@ public class InvokeDynamicScan implements Callable<Integer> {
         return new CloudPresenceProvider(authHandler).getDetails(presenceId);
     }
 
-    private void getScanLogs(IScan scan , CloudResultsProvider resultsProvider ) throws JSONException, IOException {
-        ExecutorService executor = Executors.newSingleThreadExecutor();
+    private String getScanLog(ScanHandle scan, CloudResultsProvider resultsProvider) throws IOException, InterruptedException {
         logger.info("Downloading Scan Logs. Please wait...");
-        Callable<String> downloadScanLogTask = () -> {
-            String cwd = Path.of("").toAbsolutePath().toString();
-            String baseDir = cwd+separator+messageBundle.getString("report.download.location");
-            String fileName = "ScanLog" + "_" + SystemUtil.getTimeStamp() + "." + "zip";
-            File scanLogFile = new File(baseDir ,fileName);
-            resultsProvider.getScanLogFile(scanLogFile,scan.getScanId());
-            if(scanLogFile.isFile()){
-                String scanLogFilePath = scanLogFile.getAbsolutePath();
-                return "ScanLog File downloaded successfully. Download location - " + scanLogFilePath;
-            }else{
-                return "ScanLog File is not available for this Scan";
-            }
-
-        };
-        try {
-            Future<String> future = executor.submit(downloadScanLogTask);
-            String scanLogDownloadStatus = future.get(90, TimeUnit.SECONDS);
-            logger.info(scanLogDownloadStatus);
-        } catch (TimeoutException e) {
-            logger.error("Unable to download the scan log. Operation timed out!");
-        } catch (Exception e) {
-            logger.error("Caught Exception while downloading the scan log : Error - "+ e.getMessage());
-        } finally {
-            executor.shutdown();
+        String cwd = Path.of("").toAbsolutePath().toString();
+        String baseDir = cwd+separator+messageBundle.getString("report.download.location");
+        String fileName = "ScanLog" + "_" + scan.getScanId() + "_" + SystemUtil.getTimeStamp() + "." + "zip";
+        File scanLogFile = new File(baseDir ,fileName);
+        ArtifactDownload.Result scanLog = new ArtifactDownload("scan log", scanLogFile,
+                file -> resultsProvider.getScanLogFile(file, scan.getScanId()), resultOptions.getGenerationTimeout(), resultOptions.getDownloadIdleTimeout(), DOWNLOAD_ATTEMPTS).run();
+        if(scanLog != null){
+            metrics.recordMillis(ScanMetrics.Phase.scanLogDownload, scanLog.getElapsedMillis());
+            recordDownload(scanLog);
+            return "ScanLog File downloaded successfully. Download location - " + scanLog;
+        }else{
+            return "ScanLog File is not available for this Scan";
         }
-
     }
 
 }
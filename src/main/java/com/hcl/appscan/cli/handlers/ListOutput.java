@@ -0,0 +1,96 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.metadata.MetadataCache;
+import com.hcl.appscan.cli.metadata.MetadataWriter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Opens the output of the commands that export lists, either a file or the standard output.
+ */
+final class ListOutput {
+
+    private ListOutput() {
+    }
+
+    /**
+     * Opens a buffered UTF-8 writer. Closing a writer to the standard output only flushes it, so the standard output
+     * stays open for the messages that follow the list.
+     *
+     * @param output The file to write, or null for the standard output. Missing parent directories are created.
+     * @return The writer.
+     * @throws IOException If the file can not be created.
+     */
+    static Writer open(File output) throws IOException {
+        OutputStream out;
+        if (output != null) {
+            File parent = output.getAbsoluteFile().getParentFile();
+            Files.createDirectories(parent.toPath());
+            out = new FileOutputStream(output);
+        } else {
+            out = new FilterOutputStream(System.out) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    this.out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    /**
+     * Opens a writer for an application or presence list.
+     *
+     * @param resource The listed resource.
+     * @param format The output format.
+     * @param output The file to write, or null for the standard output.
+     * @param idHeader The header of the ID column of the table.
+     * @param nameHeader The header of the name column of the table.
+     * @return The writer.
+     * @throws IOException If the file can not be created.
+     */
+    static MetadataWriter newMetadataWriter(MetadataCache.Resource resource, ListFormat format, File output, String idHeader, String nameHeader) throws IOException {
+        Writer writer = open(output);
+        switch (format) {
+            case jsonl:
+                return MetadataWriter.jsonLines(resource, writer);
+            case csv:
+                return MetadataWriter.csv(resource, writer);
+            default:
+                return MetadataWriter.table(resource, writer, idHeader, nameHeader);
+        }
+    }
+}
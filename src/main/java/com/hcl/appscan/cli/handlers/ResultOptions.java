@@ -0,0 +1,187 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.polling.AdaptivePollScheduler;
+import com.hcl.appscan.cli.polling.PollScheduler;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static picocli.CommandLine.*;
+import static picocli.CommandLine.Help.*;
+
+/**
+ * The options shared by the commands that wait for a scan and process its results: status checks, reports, downloads,
+ * the compliance and baseline conditions, and the metrics files.
+ */
+class ResultOptions {
+
+    ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
+    @Spec(Spec.Target.MIXEE)
+    Model.CommandSpec spec;
+
+    @Option(names = {"--reportFormat"},defaultValue = "html", split = ",", description = "[Optional] Specify the format for the scan result report. Separate several formats with commas to download a report in each format. Valid values : ${COMPLETION-CANDIDATES}.", required = false , showDefaultValue = Visibility.ALWAYS , order = 9)
+    private Set<ReportFormat> reportFormats;
+
+    private boolean failBuildNonCompliance;
+
+    @Option(names = {"--failBuildNonCompliance"},defaultValue = "false",paramLabel = "BOOLEAN",  description = "[Optional] Fail the job if one or more issues are found which are non compliant with respect to the selected application's policies.", required = false ,showDefaultValue = Visibility.ALWAYS , order = 13)
+    public void setFailBuildNonCompliance(String value) {
+        boolean invalid = !"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value);
+
+        if (invalid) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.failBuildNonCompliance"), value));
+        }
+        failBuildNonCompliance = Boolean.parseBoolean(value);
+    }
+
+    private int pollInterval;
+    private int maxPollInterval;
+    private double pollBackoff;
+    private double pollJitter;
+
+    @Option(names = {"--pollInterval"}, defaultValue = "5", paramLabel = "SECONDS", description = "[Optional] Interval between scan status checks while the scan is queued or starting. Also the lower bound for all status check intervals.", required = false, showDefaultValue = Visibility.ALWAYS, order = 21)
+    public void setPollInterval(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.pollInterval"), value));
+        }
+        pollInterval = value;
+    }
+
+    @Option(names = {"--maxPollInterval"}, defaultValue = "120", paramLabel = "SECONDS", description = "[Optional] Upper bound for the interval between scan status checks.", required = false, showDefaultValue = Visibility.ALWAYS, order = 22)
+    public void setMaxPollInterval(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.maxPollInterval"), value));
+        }
+        maxPollInterval = value;
+    }
+
+    @Option(names = {"--pollBackoff"}, defaultValue = "1.5", paramLabel = "FACTOR", description = "[Optional] Factor by which the status check interval grows while the scan is running.", required = false, showDefaultValue = Visibility.ALWAYS, order = 23)
+    public void setPollBackoff(double value) {
+        if (value < 1.0) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.pollBackoff"), value));
+        }
+        pollBackoff = value;
+    }
+
+    @Option(names = {"--pollJitter"}, defaultValue = "0.2", paramLabel = "FRACTION", description = "[Optional] Random variation (0 to 1) applied to each status check interval.", required = false, showDefaultValue = Visibility.ALWAYS, order = 24)
+    public void setPollJitter(double value) {
+        if (value < 0.0 || value > 1.0) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.pollJitter"), value));
+        }
+        pollJitter = value;
+    }
+
+    @Option(names = {"--skip"}, split = ",", paramLabel = "STAGE", description = "[Optional] Comma separated list of steps to skip once the scan has completed. Valid values : ${COMPLETION-CANDIDATES}.", required = false, order = 29)
+    private Set<PostScanStage> skippedStages = EnumSet.noneOf(PostScanStage.class);
+
+    private int downloadIdleTimeout;
+
+    @Option(names = {"--downloadIdleTimeout"}, defaultValue = "90", paramLabel = "SECONDS", description = "[Optional] Abandon and retry a report or scan log download when no data has been received for this long, once the download has started. There is no limit on the total download time.", required = false, showDefaultValue = Visibility.ALWAYS, order = 30)
+    public void setDownloadIdleTimeout(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.downloadIdleTimeout"), value));
+        }
+        downloadIdleTimeout = value;
+    }
+
+    private int generationTimeout;
+
+    @Option(names = {"--generationTimeout"}, defaultValue = "1800", paramLabel = "SECONDS", description = "[Optional] Abandon and retry a report or scan log download when the service has not started sending it after this long, while it prepares the file.", required = false, showDefaultValue = Visibility.ALWAYS, order = 37)
+    public void setGenerationTimeout(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.generationTimeout"), value));
+        }
+        generationTimeout = value;
+    }
+
+    private File baselineFile;
+
+    @Option(names = {"--baseline"}, paramLabel = "FILE", description = "[Optional] Baseline file with the fingerprints of the accepted issues, as written by getissues --format=baseline. Required by the failbuildif new issue conditions, unless --baselineScanId is specified.", required = false, order = 31)
+    public void setBaselineFile(File file) {
+        if (!file.isFile()) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.filepath"), file.getAbsolutePath()));
+        }
+        baselineFile = file;
+    }
+
+    @Option(names = {"--baselineScanId"}, description = "[Optional] ID of a scan whose issues are the baseline for the failbuildif new issue conditions.", required = false, order = 32)
+    private String baselineScanId;
+
+    @Option(names = {"--metricsFile"}, split = ",", paramLabel = "FILE", description = "[Optional] Comma separated list of files to write, when the command exits, the time spent in each phase of the run (login, preflight checks, submission, queued, running, report generation and download, scan log download) and counters of requests, retries and bytes downloaded. Files ending with .prom are written in the Prometheus text format, for the node_exporter textfile collector, other files as JSON.", required = false, order = 36)
+    private List<File> metricsFiles = new ArrayList<>();
+
+    Set<ReportFormat> getReportFormats() {
+        return reportFormats;
+    }
+
+    boolean isFailBuildNonCompliance() {
+        return failBuildNonCompliance;
+    }
+
+    /**
+     * @return The schedule of the status checks.
+     */
+    PollScheduler newPollScheduler() {
+        return new AdaptivePollScheduler(pollInterval, maxPollInterval, pollBackoff, pollJitter);
+    }
+
+    boolean isSkipped(PostScanStage stage) {
+        return skippedStages.contains(stage);
+    }
+
+    int getDownloadIdleTimeout() {
+        return downloadIdleTimeout;
+    }
+
+    int getGenerationTimeout() {
+        return generationTimeout;
+    }
+
+    /**
+     * @return The baseline file, or null.
+     */
+    File getBaselineFile() {
+        return baselineFile;
+    }
+
+    /**
+     * @return The ID of the baseline scan, or null.
+     */
+    String getBaselineScanId() {
+        return baselineScanId;
+    }
+
+    List<File> getMetricsFiles() {
+        return metricsFiles;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.polling.ScanMonitor;
+import com.hcl.appscan.cli.polling.ScanSnapshot;
+import com.hcl.appscan.cli.results.ScanResults;
+import com.hcl.appscan.cli.results.ScanThresholds;
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+import java.util.*;
+
+import static picocli.CommandLine.*;
+
+/**
+ * One scan run by invokebatchscan or serve. The scan options are parsed with the invokedynamicscan command, so they are
+ * validated exactly like the options of a single scan, and the scan runs through the same steps.
+ */
+class ScanJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScanJob.class);
+    // Options that apply to all the scans of a batch or server and therefore can not be set per scan.
+    static final Set<String> SHARED_OPTIONS = new HashSet<>(Arrays.asList("key", "secret", "serviceUrl", "acceptssl", "truststore", "truststorePassword", "tokenCache"));
+    // The HTTP counters of a metrics file cover the whole process, so they are only meaningful for a single run.
+    static final String METRICS_OPTION = "metricsFile";
+
+    enum State { Pending, Running, Completed, Failed }
+
+    private final ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
+    private final String id;
+    private final Map<String, String> options;
+    private InvokeDynamicScan scan;
+    private ScanThresholds thresholds = ScanThresholds.none();
+    private volatile State state = State.Pending;
+    private volatile int exitCode = -1;
+    private volatile String outcome;
+    private volatile ScanResults results;
+    private volatile long finishedAt;
+
+    /**
+     * @param id The ID of the job.
+     * @param options The invokedynamicscan option values and failbuildif thresholds, by name without the leading dashes.
+     */
+    ScanJob(String id, Map<String, String> options) {
+        this.id = id;
+        this.options = options;
+    }
+
+    /**
+     * Parses the options of the scan. On failure the job is marked failed with exit code 2.
+     *
+     * @param key The API key.
+     * @param secret The API secret.
+     * @param serviceUrl The AppScan 360° service url, or null.
+     * @param command The name of the command that sets the shared options, for error messages.
+     * @return True if the options are valid.
+     */
+    boolean parse(String key, String secret, String serviceUrl, String command) {
+        try {
+            List<String> args = new ArrayList<>();
+            args.add("--key=" + key);
+            args.add("--secret=" + secret);
+            if (serviceUrl != null) {
+                args.add("--serviceUrl=" + serviceUrl);
+            }
+            for (Map.Entry<String, String> option : options.entrySet()) {
+                if (SHARED_OPTIONS.contains(option.getKey())) {
+                    throw new IllegalArgumentException(String.format(messageBundle.getString("error.batch.option"), option.getKey(), command));
+                }
+                if (METRICS_OPTION.equals(option.getKey())) {
+                    throw new IllegalArgumentException(String.format(messageBundle.getString("error.batch.metrics"), option.getKey(), command));
+                }
+                if (ScanThresholds.isThresholdName(option.getKey())) {
+                    try {
+                        thresholds = thresholds.with(option.getKey(), Integer.parseInt(option.getValue()));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid value for option '--" + option.getKey() + "': '" + option.getValue() + "' is not an int");
+                    }
+                } else {
+                    args.add("--" + option.getKey() + "=" + option.getValue());
+                }
+            }
+
+            scan = new InvokeDynamicScan();
+            CommandLine commandLine = new CommandLine(scan);
+            commandLine.setCaseInsensitiveEnumValuesAllowed(true);
+            commandLine.parseArgs(args.toArray(new String[0]));
+            if (thresholds.isSpecified()) {
+                scan.validateThresholds(thresholds);
+            } else {
+                scan.validateOptions();
+            }
+            scan.setPrintProgress(false);
+            return true;
+        } catch (ParameterException | IllegalArgumentException e) {
+            fail(2, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Checks the presence or target of the scan. On failure the job is marked failed with exit code 2.
+     */
+    void preflight(CloudAuthenticationHandler authHandler) {
+        try {
+            scan.preflight(authHandler);
+        } catch (Exception e) {
+            fail(2, String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * Submits the scan, waits for it and evaluates its results against the thresholds.
+     */
+    void run(CloudAuthenticationHandler authHandler, ScanMonitor monitor) {
+        state = State.Running;
+        scan.setScanMonitor(monitor);
+        try {
+            Optional<ScanResults> scanResults = scan.runScan(authHandler);
+            int code = scan.evaluateResults(scanResults, thresholds);
+            if (!scanResults.isPresent()) {
+                outcome = "Submitted";
+            } else {
+                ScanResults result = scanResults.get();
+                results = result;
+                outcome = String.format("%s, %d issues (%d critical, %d high, %d medium, %d low) %s", code == 0 ? "Passed" : "Failed",
+                        result.getTotalFindings(), result.getCriticalCount(), result.getHighCount(),
+                        result.getMediumCount(), result.getLowCount(), result.getScanServerUrl());
+            }
+            // The job finishes once its report and scan log are downloaded.
+            scan.awaitPostScanStages();
+            finish(code == 0 ? State.Completed : State.Failed, code);
+        } catch (Exception e) {
+            scan.awaitPostScanStages();
+            fail(10, String.valueOf(e.getMessage()));
+        }
+    }
+
+    void fail(int code, String message) {
+        outcome = "Failed: " + message;
+        logger.error("Target {}: {}", getLabel(), message);
+        finish(State.Failed, code);
+    }
+
+    private void finish(State finalState, int code) {
+        exitCode = code;
+        finishedAt = System.currentTimeMillis();
+        state = finalState;
+    }
+
+    boolean isPending() {
+        return state == State.Pending;
+    }
+
+    boolean isFinished() {
+        return state == State.Completed || state == State.Failed;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    int getExitCode() {
+        return exitCode;
+    }
+
+    String getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * @return The time the job finished in milliseconds since the epoch, or 0 if it has not finished.
+     */
+    long getFinishedAt() {
+        return finishedAt;
+    }
+
+    String getLabel() {
+        if (scan != null && scan.getTarget() != null) {
+            return scan.getAppId() + " " + scan.getTarget();
+        }
+        return options.getOrDefault("appId", "") + " " + options.getOrDefault("target", "");
+    }
+
+    /**
+     * @return The state of the job as JSON.
+     */
+    JSONObject toJson() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("id", id);
+        json.put("appId", scan != null && scan.getAppId() != null ? scan.getAppId() : options.get("appId"));
+        json.put("target", scan != null && scan.getTarget() != null ? scan.getTarget() : options.get("target"));
+        json.put("state", state.name());
+        if (scan != null && scan.getScanId() != null) {
+            json.put("scanId", scan.getScanId());
+        }
+        ScanSnapshot snapshot = scan == null ? null : scan.getLastSnapshot();
+        if (snapshot != null) {
+            json.put("status", ScanMonitor.getStatus(snapshot));
+            json.put("progress", snapshot.getProgress());
+            json.put("durationSec", snapshot.getDurationSec());
+        }
+        if (isFinished()) {
+            json.put("exitCode", exitCode);
+            json.put("message", outcome);
+        }
+        ScanResults result = results;
+        if (result != null) {
+            JSONObject findings = new JSONObject();
+            findings.put("total", result.getTotalFindings());
+            findings.put("critical", result.getCriticalCount());
+            findings.put("high", result.getHighCount());
+            findings.put("medium", result.getMediumCount());
+            findings.put("low", result.getLowCount());
+            findings.put("info", result.getInfoCount());
+            json.put("findings", findings);
+            json.put("resultUrl", result.getScanServerUrl());
+        }
+        return json;
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.batch.BatchManifest;
+import com.hcl.appscan.cli.polling.ConnectivityMonitor;
+import com.hcl.appscan.cli.polling.RateLimiter;
+import com.hcl.appscan.cli.polling.ScanMonitor;
+import com.hcl.appscan.cli.polling.ScanThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.wink.json4j.JSONArray;
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static picocli.CommandLine.*;
+import static picocli.CommandLine.Help.*;
+
+@Command(name = "serve", sortOptions = false, mixinStandardHelpOptions = true, version = "1.0",
+        description = "This command keeps one CLI process running and accepts Dynamic Security Analysis Scan submissions and status queries over a local HTTP endpoint. Logins are kept per API key and reused by later submissions, and all the submitted scans share one status monitor. Submit a scan with POST /scans, query it with GET /scans/<id>, and list all the scans with GET /scans.",
+        optionListHeading = "%n@|bold,underline Options|@:%n" , descriptionHeading = "%n@|bold,underline Description|@:%n%n",
+        subcommands = {HelpCommand.class})
+public class ServeScans implements Callable<Integer> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServeScans.class);
+    private static final int MAX_REQUEST_BYTES = 1024 * 1024;
+    // Finished scans are kept this long so clients can fetch their results.
+    private static final long RETENTION_MS = TimeUnit.HOURS.toMillis(24);
+    // Cached logins are dropped once no scan has used them for this long.
+    private static final long IDLE_LOGIN_MS = TimeUnit.HOURS.toMillis(1);
+
+    ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
+    @Spec
+    Model.CommandSpec spec;
+    @Mixin
+    ConnectionOptions connection;
+
+    private int port;
+
+    @Option(names = {"--port"}, defaultValue = "8085", description = "[Optional] Port of the HTTP endpoint.", required = false, showDefaultValue = Visibility.ALWAYS, order = 1)
+    public void setPort(int value) {
+        if (value < 0 || value > 65535) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.port"), value));
+        }
+        port = value;
+    }
+
+    @Option(names = {"--bindAddress"}, defaultValue = "127.0.0.1", description = "[Optional] Address the HTTP endpoint listens on. Submissions carry API secrets, so only listen on other addresses behind a TLS-terminating proxy.", required = false, showDefaultValue = Visibility.ALWAYS, order = 2)
+    private String bindAddress;
+
+    @Option(names = {"--authToken"}, paramLabel = "TOKEN", description = "[Optional] Require every request to send the header 'Authorization: Bearer TOKEN'.", required = false, order = 3)
+    private String authToken;
+
+    private int concurrency;
+
+    @Option(names = {"--concurrency"}, defaultValue = "100", description = "[Optional] Maximum number of scans in progress at the same time. Further submissions wait.", required = false, showDefaultValue = Visibility.ALWAYS, order = 4)
+    public void setConcurrency(int value) {
+        if (value < 1) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.concurrency"), value));
+        }
+        concurrency = value;
+    }
+
+    private double rateLimit;
+
+    @Option(names = {"--rateLimit"}, defaultValue = "10", paramLabel = "REQUESTS", description = "[Optional] Maximum number of scan status checks per second, shared by all the scans. 0 for no limit.", required = false, showDefaultValue = Visibility.ALWAYS, order = 5)
+    public void setRateLimit(double value) {
+        if (value < 0) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.invalid.rateLimit"), value));
+        }
+        rateLimit = value;
+    }
+
+    private final Map<String, CachedLogin> authHandlers = new ConcurrentHashMap<>();
+    private final Map<String, ScanMonitor> monitors = new ConcurrentHashMap<>();
+    private final Map<String, ScanJob> jobs = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+    private Semaphore slots;
+    private RateLimiter rateLimiter;
+
+    @Override
+    public Integer call() throws Exception {
+        connection.configureTls();
+        executor = ScanThreads.newExecutor("appscan-serve");
+        slots = new Semaphore(concurrency);
+        rateLimiter = new RateLimiter(rateLimit);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(bindAddress, port), 0);
+        server.setExecutor(executor);
+        server.createContext("/scans", this::handleScans);
+        server.createContext("/health", this::handleHealth);
+        server.start();
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(1);
+            monitors.values().forEach(ScanMonitor::close);
+            authHandlers.values().forEach(login -> login.handler.close());
+            stopped.countDown();
+        }));
+        logger.info(messageBundle.getString("info.serve.listening"), server.getAddress().getHostString(), server.getAddress().getPort());
+        stopped.await();
+        return 0;
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try {
+            if (!isAuthorized(exchange)) {
+                sendError(exchange, 401, "Unauthorized");
+                return;
+            }
+            JSONObject health = new JSONObject();
+            health.put("status", "UP");
+            health.put("scans", jobs.size());
+            health.put("scansInProgress", concurrency - slots.availablePermits());
+            send(exchange, 200, health.toString());
+        } catch (JSONException e) {
+            sendError(exchange, 500, e.getMessage());
+        }
+    }
+
+    private void handleScans(HttpExchange exchange) throws IOException {
+        try {
+            if (!isAuthorized(exchange)) {
+                sendError(exchange, 401, "Unauthorized");
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            String id = path.length() > "/scans/".length() ? path.substring("/scans/".length()) : null;
+            String method = exchange.getRequestMethod();
+            if ("POST".equals(method) && id == null) {
+                submit(exchange);
+            } else if ("GET".equals(method) && id == null) {
+                JSONArray list = new JSONArray();
+                for (ScanJob job : jobs.values()) {
+                    list.add(job.toJson());
+                }
+                send(exchange, 200, list.toString());
+            } else if ("GET".equals(method)) {
+                ScanJob job = jobs.get(id);
+                if (job == null) {
+                    sendError(exchange, 404, "Unknown scan: " + id);
+                } else {
+                    send(exchange, 200, job.toJson().toString());
+                }
+            } else {
+                sendError(exchange, 405, "Method not allowed");
+            }
+        } catch (JSONException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error(e.getMessage(), e);
+            sendError(exchange, 500, String.valueOf(e.getMessage()));
+        }
+    }
+
+    // Accepts a JSON object with the API key and secret and the invokedynamicscan options and failbuildif thresholds of one scan.
+    private void submit(HttpExchange exchange) throws IOException, JSONException {
+        evictFinished();
+        JSONObject request;
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(MAX_REQUEST_BYTES + 1);
+            if (bytes.length > MAX_REQUEST_BYTES) {
+                sendError(exchange, 413, "Request too large");
+                return;
+            }
+            request = new JSONObject(new String(bytes, StandardCharsets.UTF_8));
+        }
+        String key = take(request, "key");
+        String secret = take(request, "secret");
+        String serviceUrl = take(request, "serviceUrl");
+        String acceptssl = take(request, "acceptssl");
+        if (key == null || secret == null) {
+            sendError(exchange, 400, "Both 'key' and 'secret' are required.");
+            return;
+        }
+
+        ScanJob job = new ScanJob(UUID.randomUUID().toString(), BatchManifest.toMap(request));
+        if (!job.parse(key, secret, serviceUrl, spec.name())) {
+            send(exchange, 400, job.toJson().toString());
+            return;
+        }
+        CachedLogin login;
+        try {
+            login = getAuthHandler(key, secret, serviceUrl, Boolean.parseBoolean(acceptssl));
+        } catch (IOException e) {
+            sendError(exchange, 401, e.getMessage());
+            return;
+        }
+
+        jobs.put(job.getId(), job);
+        executor.submit(() -> {
+            try {
+                job.preflight(login.handler);
+                if (!job.isPending()) {
+                    return null;
+                }
+                slots.acquire();
+                try {
+                    job.run(login.handler, getMonitor(login.handler));
+                } finally {
+                    slots.release();
+                }
+            } finally {
+                login.release();
+            }
+            return null;
+        });
+        exchange.getResponseHeaders().set("Location", "/scans/" + job.getId());
+        send(exchange, 202, job.toJson().toString());
+    }
+
+    private static String take(JSONObject request, String name) {
+        Object value = request.remove(name);
+        return value == null ? null : String.valueOf(value);
+    }
+
+    // Logins are kept per key, service and secret, and the handler refreshes its token in the background.
+    // The returned login is in use until released.
+    private CachedLogin getAuthHandler(String key, String secret, String serviceUrl, boolean acceptssl) throws IOException {
+        String cacheKey = key + "|" + serviceUrl + "|" + digest(secret);
+        CachedLogin cached = authHandlers.get(cacheKey);
+        if (cached != null && cached.acquire()) {
+            return cached;
+        }
+        CloudAuthenticationHandler authHandler = CredentialOptions.newAuthHandler(key, serviceUrl, acceptssl, connection.getTokenCache());
+        try {
+            if (!authHandler.updateCredentials(key, secret)) {
+                throw new IOException(messageBundle.getString("error.invalid.credentials"));
+            }
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(messageBundle.getString("error.invalid.credentials"));
+        }
+        CachedLogin login = new CachedLogin(authHandler);
+        login.acquire();
+        while (true) {
+            CachedLogin existing = authHandlers.putIfAbsent(cacheKey, login);
+            if (existing == null) {
+                return login;
+            }
+            if (existing.acquire()) {
+                authHandler.close();
+                return existing;
+            }
+            authHandlers.remove(cacheKey, existing);
+        }
+    }
+
+    private ScanMonitor getMonitor(CloudAuthenticationHandler authHandler) {
+        return monitors.computeIfAbsent(authHandler.getServer(),
+                server -> new ScanMonitor(new ConnectivityMonitor(server, authHandler.getacceptInvalidCerts()), rateLimiter));
+    }
+
+    private void evictFinished() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> job.isFinished() && now - job.getFinishedAt() > RETENTION_MS);
+        // Logins no scan has used for a while stop refreshing their tokens.
+        authHandlers.values().removeIf(login -> login.evictIfIdle(now - IDLE_LOGIN_MS));
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        if (authToken == null) {
+            return true;
+        }
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        byte[] expected = ("Bearer " + authToken).getBytes(StandardCharsets.UTF_8);
+        return header != null && MessageDigest.isEqual(expected, header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        try {
+            JSONObject error = new JSONObject();
+            error.put("error", message);
+            send(exchange, status, error.toString());
+        } catch (JSONException e) {
+            send(exchange, status, "{}");
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // A cached login and the number of scans using it. Once evicted, it is closed and can no longer be acquired.
+    private static final class CachedLogin {
+        final CloudAuthenticationHandler handler;
+        private int users;
+        private long releasedAt = System.currentTimeMillis();
+        private boolean evicted;
+
+        CachedLogin(CloudAuthenticationHandler handler) {
+            this.handler = handler;
+        }
+
+        synchronized boolean acquire() {
+            if (evicted) {
+                return false;
+            }
+            users++;
+            return true;
+        }
+
+        synchronized void release() {
+            users--;
+            releasedAt = System.currentTimeMillis();
+        }
+
+        synchronized boolean evictIfIdle(long idleSince) {
+            if (users == 0 && releasedAt < idleSince) {
+                evicted = true;
+                handler.close();
+            }
+            return evicted;
+        }
+    }
+}
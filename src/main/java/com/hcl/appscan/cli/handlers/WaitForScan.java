@@ -0,0 +1,135 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.handlers;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.results.ScanProgress;
+import com.hcl.appscan.cli.results.ScanResults;
+import com.hcl.appscan.cli.results.ScanThresholds;
+import com.hcl.appscan.cli.scanners.ScanHandle;
+import com.hcl.appscan.sdk.scan.CloudScanServiceProvider;
+import com.hcl.appscan.sdk.scan.IScanServiceProvider;
+import org.apache.wink.json4j.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+
+import static com.hcl.appscan.cli.constants.ScannerConstants.DYNAMIC_ANALYZER;
+import static picocli.CommandLine.*;
+import static picocli.CommandLine.Help.*;
+
+@Command(name = "waitforscan", sortOptions = false, mixinStandardHelpOptions = true, version = "1.0",
+        description = "This command attaches to a Dynamic Security Analysis Scan that was already submitted to AppScan on Cloud or AppScan 360°, for example by an invokedynamicscan job that was interrupted. It waits for the scan to complete and processes its results exactly like invokedynamicscan, including the report download and the failbuildif conditions, without submitting a new scan.",
+        optionListHeading = "%n@|bold,underline Options|@:%n" , descriptionHeading = "%n@|bold,underline Description|@:%n%n",
+        subcommands = {HelpCommand.class})
+public class WaitForScan implements Callable<Integer> {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitForScan.class);
+
+    ResourceBundle messageBundle = ResourceBundle.getBundle("messages");
+    @Spec
+    Model.CommandSpec spec;
+    @Mixin
+    CredentialOptions credentials;
+    @Mixin
+    ConnectionOptions connection;
+    @Mixin
+    ResultOptions resultOptions;
+
+    @Option(names = {"--scanId"}, description = "[Required] The ID of the scan to wait for.", required = true , order = 3)
+    private String scanId;
+
+    @Override
+    public Integer call() throws Exception {
+        return waitForScan(ScanThresholds.none());
+    }
+
+    @Command(name = "failbuildif", description = "[Optional] A list of conditions that will fail the build. These conditions are logically \"OR\"'d together, so if one of the conditions is met, the build will fail.")
+    int failbuildif(@Option(names = {"--totalissuesgt", "-ti"}, description = "Fail build if total issues greater than", defaultValue = Integer.MAX_VALUE + "") int totalissuesgt, @Option(names = {"--highissuesgt", "-hi"}, description = "Fail build if high sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int highissuesgt, @Option(names = {"--medissuesgt", "-mi"}, description = "Fail build if medium sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int medissuesgt, @Option(names = {"--lowissuesgt", "-li"}, description = "Fail build if low sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int lowissuesgt, @Option(names = {"--criticalissuesgt", "-ci"}, description = "Fail build if critical sev issues greater than", defaultValue = Integer.MAX_VALUE + "") int criticalissuesgt, @Option(names = {"--newissuesgt", "-ni"}, description = "Fail build if issues not in the baseline greater than", defaultValue = Integer.MAX_VALUE + "") int newissuesgt, @Option(names = {"--newcriticalissuesgt", "-nci"}, description = "Fail build if critical sev issues not in the baseline greater than", defaultValue = Integer.MAX_VALUE + "") int newcriticalissuesgt, @Option(names = {"--newhighissuesgt", "-nhi"}, description = "Fail build if high sev issues not in the baseline greater than", defaultValue = Integer.MAX_VALUE + "") int newhighissuesgt) {
+        return waitForScan(new ScanThresholds(totalissuesgt, criticalissuesgt, highissuesgt, medissuesgt, lowissuesgt, newissuesgt, newcriticalissuesgt, newhighissuesgt));
+    }
+
+    private int waitForScan(ScanThresholds thresholds) {
+        connection.configureTls();
+        CloudAuthenticationHandler authHandler = credentials.authenticate(connection.getTokenCache());
+
+        IScanServiceProvider serviceProvider = new CloudScanServiceProvider(new ScanProgress(), authHandler);
+        JSONObject details;
+        try {
+            details = serviceProvider.getScanDetails(scanId);
+        } catch (Exception e) {
+            details = null;
+        }
+        if (details == null || !details.has("AppId") || !details.has("Name")) {
+            throw new ParameterException(spec.commandLine(),
+                    String.format(messageBundle.getString("error.scan.notfound"), scanId));
+        }
+
+        InvokeDynamicScan scan = getScanCommand(details, authHandler, thresholds);
+        ScanHandle handle = new ScanHandle(scanId, details.optString("Name"), DYNAMIC_ANALYZER, serviceProvider);
+        int exitCode = 10;
+        try {
+            Optional<ScanResults> results = scan.attach(authHandler, handle);
+            exitCode = scan.evaluateResults(results, thresholds);
+            return exitCode;
+        } catch (Exception e) {
+            return 10;
+        } finally {
+            scan.awaitPostScanStages();
+            scan.writeMetrics(exitCode);
+        }
+    }
+
+    // Creates an invokedynamicscan command for the scan with the result options of this command, so its results are
+    // processed exactly the same way.
+    private InvokeDynamicScan getScanCommand(JSONObject details, CloudAuthenticationHandler authHandler, ScanThresholds thresholds) {
+        List<String> args = new ArrayList<>();
+        args.add("--key=" + credentials.getKey());
+        args.add("--secret=" + credentials.getSecret());
+        args.add("--appId=" + details.optString("AppId"));
+        args.add("--scanName=" + details.optString("Name"));
+        // The target is only reported in the scan summary.
+        args.add("--target=" + details.optString("Target", details.optString("StartingUrl", authHandler.getServer())));
+        if (credentials.getServiceUrl() != null) {
+            args.add("--serviceUrl=" + credentials.getServiceUrl());
+        }
+        args.add("--acceptssl=" + credentials.isAcceptssl());
+
+        InvokeDynamicScan scan = new InvokeDynamicScan();
+        try {
+            CommandLine commandLine = new CommandLine(scan);
+            commandLine.setCaseInsensitiveEnumValuesAllowed(true);
+            commandLine.parseArgs(args.toArray(new String[0]));
+            // The result options were parsed and validated with this command.
+            scan.resultOptions = resultOptions;
+            if (thresholds.isSpecified()) {
+                scan.validateThresholds(thresholds);
+            } else {
+                scan.validateOptions();
+            }
+        } catch (ParameterException e) {
+            throw new ParameterException(spec.commandLine(), e.getMessage());
+        }
+        return scan;
+    }
+
+}
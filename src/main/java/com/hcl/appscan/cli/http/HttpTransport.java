@@ -0,0 +1,242 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.http;
+
+import java.io.IOException;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide HTTP transport for the requests the CLI sends itself. All requests share one pooled
+ * {@link HttpClient} per {@link TlsConfiguration}, which negotiates HTTP/2 where the service supports it and otherwise
+ * keeps HTTP/1.1 connections alive between requests. Requests go through the JVM's default {@link ProxySelector}.
+ * <p>
+ * The transport is configured with the following system properties, read when it is first used:
+ * <ul>
+ * <li>{@code appscan.http.poolSize} - number of threads handling responses and maximum number of pooled connections (default 8)</li>
+ * <li>{@code appscan.http.connectTimeout} - connect timeout in seconds (default 30)</li>
+ * <li>{@code appscan.http.requestTimeout} - timeout in seconds for a single request (default 120)</li>
+ * <li>{@code appscan.http.keepAlive} - idle time in seconds before a pooled connection is closed (default 300)</li>
+ * <li>{@code appscan.http.maxRequests} - maximum number of requests in flight at the same time; further requests wait (default 64)</li>
+ * </ul>
+ */
+public class HttpTransport {
+
+	public static final String POOL_SIZE = "appscan.http.poolSize";
+	public static final String CONNECT_TIMEOUT = "appscan.http.connectTimeout";
+	public static final String REQUEST_TIMEOUT = "appscan.http.requestTimeout";
+	public static final String KEEP_ALIVE = "appscan.http.keepAlive";
+	public static final String MAX_REQUESTS = "appscan.http.maxRequests";
+
+	// Headers that java.net.http manages itself and rejects when set by the caller.
+	private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+	static {
+		RESTRICTED_HEADERS.add("Connection");
+		RESTRICTED_HEADERS.add("Content-Length");
+		RESTRICTED_HEADERS.add("Expect");
+		RESTRICTED_HEADERS.add("Host");
+		RESTRICTED_HEADERS.add("Upgrade");
+	}
+
+	private static volatile HttpTransport instance;
+
+	private final int m_poolSize;
+	private final Duration m_connectTimeout;
+	private final Duration m_requestTimeout;
+	private final ExecutorService m_executor;
+	private final Semaphore m_requests;
+	private final ConcurrentMap<TlsConfiguration, HttpClient> m_clients = new ConcurrentHashMap<>();
+	private final LongAdder m_requestCount = new LongAdder();
+	private final LongAdder m_errorCount = new LongAdder();
+
+	private HttpTransport() {
+		m_poolSize = Integer.getInteger(POOL_SIZE, 8);
+		m_connectTimeout = Duration.ofSeconds(Long.getLong(CONNECT_TIMEOUT, 30));
+		m_requestTimeout = Duration.ofSeconds(Long.getLong(REQUEST_TIMEOUT, 120));
+		m_requests = new Semaphore(Math.max(1, Integer.getInteger(MAX_REQUESTS, 64)), true);
+		// The JDK client reads its pool settings once, when its connection pool class is initialized.
+		setIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(m_poolSize));
+		setIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(Long.getLong(KEEP_ALIVE, 300)));
+
+		AtomicInteger threadCount = new AtomicInteger();
+		m_executor = Executors.newFixedThreadPool(m_poolSize, runnable -> {
+			Thread thread = new Thread(runnable, "appscan-http-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @return The shared transport.
+	 */
+	public static HttpTransport get() {
+		if (instance == null) {
+			synchronized (HttpTransport.class) {
+				if (instance == null) {
+					instance = new HttpTransport();
+				}
+			}
+		}
+		return instance;
+	}
+
+	public int getPoolSize() {
+		return m_poolSize;
+	}
+
+	/**
+	 * @return The number of requests sent through the transport since it was created.
+	 */
+	public long getRequestCount() {
+		return m_requestCount.sum();
+	}
+
+	/**
+	 * @return The number of requests that failed or were answered with an error status (400 or above).
+	 */
+	public long getErrorCount() {
+		return m_errorCount.sum();
+	}
+
+	/**
+	 * Returns the pooled client for the given trust configuration.
+	 *
+	 * @param acceptInvalidCerts True to accept untrusted certificates.
+	 * @return The shared client.
+	 */
+	public HttpClient getClient(boolean acceptInvalidCerts) {
+		return getClient(TlsConfiguration.forConnection(acceptInvalidCerts));
+	}
+
+	/**
+	 * Returns the pooled client for the given TLS configuration.
+	 *
+	 * @param tlsConfiguration The TLS configuration.
+	 * @return The shared client.
+	 */
+	public HttpClient getClient(TlsConfiguration tlsConfiguration) {
+		return m_clients.computeIfAbsent(tlsConfiguration, this::newClient);
+	}
+
+	/**
+	 * Creates a request builder for the given url with the transport's request timeout and the given headers.
+	 * Headers that are managed by the transport, such as Connection, are skipped.
+	 *
+	 * @param url The request url.
+	 * @param headers The request headers. May be null.
+	 * @return The request builder.
+	 */
+	public HttpRequest.Builder newRequest(String url, Map<String, String> headers) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(m_requestTimeout);
+		if (headers != null) {
+			for (Map.Entry<String, String> header : headers.entrySet()) {
+				if (!RESTRICTED_HEADERS.contains(header.getKey())) {
+					builder.header(header.getKey(), header.getValue());
+				}
+			}
+		}
+		return builder;
+	}
+
+	public HttpResponse<Void> head(String url, boolean acceptInvalidCerts) throws IOException {
+		HttpRequest request = newRequest(url, null).method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+		return send(request, HttpResponse.BodyHandlers.discarding(), acceptInvalidCerts);
+	}
+
+	public HttpResponse<String> get(String url, Map<String, String> headers, boolean acceptInvalidCerts) throws IOException {
+		HttpRequest request = newRequest(url, headers).GET().build();
+		return send(request, HttpResponse.BodyHandlers.ofString(), acceptInvalidCerts);
+	}
+
+	public HttpResponse<String> post(String url, Map<String, String> headers, String body, boolean acceptInvalidCerts) throws IOException {
+		HttpRequest request = newRequest(url, headers).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+		return send(request, HttpResponse.BodyHandlers.ofString(), acceptInvalidCerts);
+	}
+
+	/**
+	 * Sends a request through the pooled client.
+	 *
+	 * @param request The request.
+	 * @param handler The response body handler.
+	 * @param acceptInvalidCerts True to accept untrusted certificates.
+	 * @return The response.
+	 * @throws IOException If the request fails or the calling thread is interrupted.
+	 */
+	public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler, boolean acceptInvalidCerts) throws IOException {
+		try {
+			// Bounds the connections and streams opened when many scans are monitored at once.
+			m_requests.acquire();
+			m_requestCount.increment();
+			try {
+				HttpResponse<T> response = getClient(acceptInvalidCerts).send(request, handler);
+				if (response.statusCode() >= 400) {
+					m_errorCount.increment();
+				}
+				return response;
+			} catch (IOException e) {
+				m_errorCount.increment();
+				throw e;
+			} finally {
+				m_requests.release();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+	}
+
+	private HttpClient newClient(TlsConfiguration tlsConfiguration) {
+		return HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.proxy(proxySelector())
+				.connectTimeout(m_connectTimeout)
+				.sslContext(tlsConfiguration.getSslContext())
+				.sslParameters(tlsConfiguration.getSslParameters())
+				.executor(m_executor)
+				.build();
+	}
+
+	// The default selector follows the standard http(s).proxyHost, http.nonProxyHosts and
+	// java.net.useSystemProxies settings, the same ones the SDK's own connections honor.
+	private static ProxySelector proxySelector() {
+		ProxySelector selector = ProxySelector.getDefault();
+		return selector != null ? selector : HttpClient.Builder.NO_PROXY;
+	}
+
+	private static void setIfAbsent(String property, String value) {
+		if (System.getProperty(property) == null) {
+			System.setProperty(property, value);
+		}
+	}
+}
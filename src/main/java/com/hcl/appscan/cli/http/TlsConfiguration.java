@@ -0,0 +1,193 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.http;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * TLS settings for connections to AppScan on Cloud or AppScan 360°. Each trust configuration (the JVM default trust store,
+ * a custom trust store file, or trust-all) builds its {@link SSLContext} once. Because the context is reused, its client
+ * session cache lets repeated connections to the same host resume the TLS session with an abbreviated handshake.
+ * TLS 1.3 is preferred, with TLS 1.2 as fallback.
+ */
+public final class TlsConfiguration {
+
+	private static final String[] PROTOCOLS = { "TLSv1.3", "TLSv1.2" }; //$NON-NLS-1$ //$NON-NLS-2$
+	private static final int SESSION_CACHE_SIZE = 256;
+	private static final int SESSION_TIMEOUT_SEC = 24 * 60 * 60;
+
+	private static final ConcurrentMap<String, TlsConfiguration> CACHE = new ConcurrentHashMap<>();
+	private static volatile TlsConfiguration defaultConfiguration;
+
+	private final String m_key;
+	private final SSLContext m_sslContext;
+
+	private TlsConfiguration(String key, SSLContext sslContext) {
+		m_key = key;
+		m_sslContext = sslContext;
+		SSLSessionContext sessions = sslContext.getClientSessionContext();
+		if (sessions != null) {
+			sessions.setSessionCacheSize(SESSION_CACHE_SIZE);
+			sessions.setSessionTimeout(SESSION_TIMEOUT_SEC);
+		}
+	}
+
+	/**
+	 * @return The configuration that trusts the certificates in the JVM default trust store.
+	 */
+	public static TlsConfiguration system() {
+		return CACHE.computeIfAbsent("system", key -> new TlsConfiguration(key, newContext(null))); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return The configuration that accepts any certificate and skips host name verification. Only intended for testing.
+	 */
+	public static TlsConfiguration trustAll() {
+		return CACHE.computeIfAbsent("trustAll", key -> new TlsConfiguration(key, newContext(new TrustManager[] { new TrustAllManager() }))); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the configuration that trusts the certificates in the given trust store file.
+	 *
+	 * @param truststore A JKS or PKCS12 trust store.
+	 * @param password The trust store password. May be null.
+	 * @return The configuration.
+	 * @throws IOException If the trust store cannot be read.
+	 * @throws GeneralSecurityException If the trust store cannot be loaded.
+	 */
+	public static TlsConfiguration truststore(File truststore, char[] password) throws IOException, GeneralSecurityException {
+		String key = "truststore:" + truststore.getCanonicalPath(); //$NON-NLS-1$
+		TlsConfiguration configuration = CACHE.get(key);
+		if (configuration == null) {
+			KeyStore keyStore = KeyStore.getInstance(truststore, password);
+			TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+			factory.init(keyStore);
+			configuration = CACHE.computeIfAbsent(key, k -> new TlsConfiguration(k, newContext(factory.getTrustManagers())));
+		}
+		return configuration;
+	}
+
+	/**
+	 * Sets the configuration used for connections that do not accept invalid certificates. It is also installed as the
+	 * default for {@link HttpsURLConnection}, so requests sent by the AppScan SDK use the same trust settings.
+	 *
+	 * @param configuration The configuration.
+	 */
+	public static void setDefault(TlsConfiguration configuration) {
+		defaultConfiguration = configuration;
+		HttpsURLConnection.setDefaultSSLSocketFactory(configuration.getSslContext().getSocketFactory());
+	}
+
+	/**
+	 * @return The configuration set with {@link #setDefault(TlsConfiguration)}, or {@link #system()} if none was set.
+	 */
+	public static TlsConfiguration getDefault() {
+		TlsConfiguration configuration = defaultConfiguration;
+		return configuration == null ? system() : configuration;
+	}
+
+	/**
+	 * @param acceptInvalidCerts True to accept untrusted certificates.
+	 * @return {@link #trustAll()} if untrusted certificates are accepted, otherwise {@link #getDefault()}.
+	 */
+	public static TlsConfiguration forConnection(boolean acceptInvalidCerts) {
+		return acceptInvalidCerts ? trustAll() : getDefault();
+	}
+
+	public SSLContext getSslContext() {
+		return m_sslContext;
+	}
+
+	public SSLParameters getSslParameters() {
+		SSLParameters parameters = m_sslContext.getDefaultSSLParameters();
+		parameters.setProtocols(PROTOCOLS);
+		return parameters;
+	}
+
+	@Override
+	public String toString() {
+		return "TlsConfiguration{" + m_key + '}';
+	}
+
+	private static SSLContext newContext(TrustManager[] trustManagers) {
+		try {
+			SSLContext context = SSLContext.getInstance("TLS"); //$NON-NLS-1$
+			context.init(null, trustManagers, null);
+			return context;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// An X509ExtendedTrustManager that accepts everything also disables host name verification for java.net.http.
+	private static class TrustAllManager extends X509ExtendedTrustManager {
+
+		private final X509Certificate[] x509Certificates = new X509Certificate[0];
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return x509Certificates;
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType) {
+			// do nothing
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType) {
+			// do nothing
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) {
+			// do nothing
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) {
+			// do nothing
+		}
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+			// do nothing
+		}
+
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) {
+			// do nothing
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.issues;
+
+import com.hcl.appscan.cli.utils.AtomicFile;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The fingerprints of the issues of a baseline scan, as a sorted array of 64-bit values.
+ * <p>
+ * The file format is a 16 byte header (the magic value "ASBASE01" and the number of fingerprints) followed by the
+ * sorted, distinct fingerprints, all big-endian. The file is memory-mapped, so opening a baseline does not read it,
+ * and every lookup is a binary search over the mapped pages.
+ */
+public final class BaselineIndex {
+
+	private static final long MAGIC = 0x4153424153453031L; // ASBASE01
+	private static final int HEADER_SIZE = 16;
+
+	private final LongBuffer m_fingerprints;
+
+	private BaselineIndex(LongBuffer fingerprints) {
+		m_fingerprints = fingerprints;
+	}
+
+	/**
+	 * @param fingerprints The fingerprints, in any order and possibly repeated. The array is sorted in place.
+	 * @return An index of the fingerprints in memory.
+	 */
+	public static BaselineIndex of(long[] fingerprints) {
+		return new BaselineIndex(LongBuffer.wrap(fingerprints, 0, sortDistinct(fingerprints)).slice());
+	}
+
+	/**
+	 * Maps a baseline file.
+	 *
+	 * @param file The baseline file, as written by {@link #write(File, long[])}.
+	 * @return The index.
+	 * @throws IOException If the file can not be read or is not a baseline file.
+	 */
+	public static BaselineIndex open(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+				throw new IOException("Not a baseline file: " + file); //$NON-NLS-1$
+			}
+			// The mapping stays valid after the channel is closed.
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			long count = buffer.getLong(8);
+			if (buffer.getLong(0) != MAGIC || count < 0 || HEADER_SIZE + count * Long.BYTES != size) {
+				throw new IOException("Not a baseline file: " + file); //$NON-NLS-1$
+			}
+			buffer.position(HEADER_SIZE);
+			return new BaselineIndex(buffer.slice().asLongBuffer());
+		}
+	}
+
+	/**
+	 * Writes a baseline file. The file is replaced atomically.
+	 *
+	 * @param file The baseline file.
+	 * @param fingerprints The fingerprints, in any order and possibly repeated. The array is sorted in place.
+	 * @return The number of distinct fingerprints written.
+	 * @throws IOException If the file can not be written.
+	 */
+	public static int write(File file, long[] fingerprints) throws IOException {
+		int count = sortDistinct(fingerprints);
+		Path target = file.getAbsoluteFile().toPath();
+		Files.createDirectories(target.getParent());
+		AtomicFile.write(target, AtomicFile.Permissions.Default, temp -> {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+				buffer.putLong(MAGIC).putLong(count);
+				for (int i = 0; i < count; i++) {
+					if (!buffer.hasRemaining()) {
+						buffer.flip();
+						while (buffer.hasRemaining()) {
+							channel.write(buffer);
+						}
+						buffer.clear();
+					}
+					buffer.putLong(fingerprints[i]);
+				}
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				channel.force(false);
+			}
+		});
+		return count;
+	}
+
+	/**
+	 * @return The number of fingerprints in the baseline.
+	 */
+	public int size() {
+		return m_fingerprints.limit();
+	}
+
+	/**
+	 * @param fingerprint A fingerprint.
+	 * @return True if the baseline contains the fingerprint.
+	 */
+	public boolean contains(long fingerprint) {
+		int low = 0;
+		int high = m_fingerprints.limit() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			long value = m_fingerprints.get(mid);
+			if (value < fingerprint) {
+				low = mid + 1;
+			} else if (value > fingerprint) {
+				high = mid - 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// Sorts the array and moves the distinct values to its start. Returns the number of distinct values.
+	private static int sortDistinct(long[] values) {
+		Arrays.sort(values);
+		int count = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (count == 0 || values[count - 1] != values[i]) {
+				values[count++] = values[i];
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.issues;
+
+import java.util.Arrays;
+
+/**
+ * Collects the fingerprints of the exported issues, to build a baseline. Only the 8 byte fingerprint of each issue is
+ * kept.
+ */
+public class FingerprintCollector extends IssueWriter {
+
+	private long[] m_fingerprints = new long[1024];
+	private int m_count;
+
+	@Override
+	public void write(Issue issue) {
+		if (!NewIssueCounter.isActive(issue)) {
+			return;
+		}
+		if (m_count == m_fingerprints.length) {
+			m_fingerprints = Arrays.copyOf(m_fingerprints, m_count * 2);
+		}
+		m_fingerprints[m_count++] = issue.getFingerprint();
+	}
+
+	/**
+	 * @return The collected fingerprints.
+	 */
+	public long[] getFingerprints() {
+		return Arrays.copyOf(m_fingerprints, m_count);
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.issues;
+
+/**
+ * One issue of a scan, with the fields that are exported and used for baselines.
+ */
+public final class Issue {
+
+	private final String m_id;
+	private final String m_issueType;
+	private final String m_severity;
+	private final String m_status;
+	private final String m_cwe;
+	private final String m_location;
+	private final long m_fingerprint;
+
+	public Issue(String id, String issueType, String severity, String status, String cwe, String location) {
+		m_id = id;
+		m_issueType = issueType;
+		m_severity = severity;
+		m_status = status;
+		m_cwe = cwe;
+		m_location = location;
+		m_fingerprint = IssueFingerprint.of(issueType, cwe, location);
+	}
+
+	public String getId() {
+		return m_id;
+	}
+
+	public String getIssueType() {
+		return m_issueType;
+	}
+
+	public String getSeverity() {
+		return m_severity;
+	}
+
+	public String getStatus() {
+		return m_status;
+	}
+
+	public String getCwe() {
+		return m_cwe;
+	}
+
+	/**
+	 * @return The url or location the issue was found at.
+	 */
+	public String getLocation() {
+		return m_location;
+	}
+
+	/**
+	 * @return The fingerprint of the issue. See {@link IssueFingerprint}.
+	 */
+	public long getFingerprint() {
+		return m_fingerprint;
+	}
+}
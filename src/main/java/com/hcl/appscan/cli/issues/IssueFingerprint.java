@@ -0,0 +1,99 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.issues;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * Identifies an issue across scans. Issue IDs change with every scan, so the fingerprint is computed from what makes
+ * an issue the same issue: its type, its CWE and where it was found. The location is normalized (lower case scheme and
+ * host, no query values, no fragment) so that session tokens and other volatile parameter values do not change it.
+ * The fingerprint is the first 64 bits of the SHA-256 of these values.
+ */
+public final class IssueFingerprint {
+
+	private IssueFingerprint() {
+	}
+
+	public static long of(String issueType, String cwe, String location) {
+		String key = String.valueOf(issueType) + '|' + String.valueOf(cwe) + '|' + normalize(location);
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			long fingerprint = 0;
+			for (int i = 0; i < Long.BYTES; i++) {
+				fingerprint = (fingerprint << 8) | (hash[i] & 0xff);
+			}
+			return fingerprint;
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @param fingerprint A fingerprint.
+	 * @return The fingerprint as 16 hex digits.
+	 */
+	public static String toHex(long fingerprint) {
+		return String.format("%016x", fingerprint); //$NON-NLS-1$
+	}
+
+	/**
+	 * @param hex A fingerprint as returned by {@link #toHex(long)}.
+	 * @return The fingerprint.
+	 * @throws NumberFormatException If the value is not a fingerprint.
+	 */
+	public static long fromHex(String hex) {
+		return Long.parseUnsignedLong(hex.trim(), 16);
+	}
+
+	static String normalize(String location) {
+		if (location == null) {
+			return ""; //$NON-NLS-1$
+		}
+		try {
+			URI uri = new URI(location.trim());
+			if (uri.getScheme() == null || uri.getHost() == null) {
+				return location.trim();
+			}
+			StringBuilder normalized = new StringBuilder();
+			normalized.append(uri.getScheme().toLowerCase(Locale.ROOT)).append("://").append(uri.getHost().toLowerCase(Locale.ROOT)); //$NON-NLS-1$
+			if (uri.getPort() != -1) {
+				normalized.append(':').append(uri.getPort());
+			}
+			normalized.append(uri.getRawPath() == null ? "" : uri.getRawPath()); //$NON-NLS-1$
+			if (uri.getRawQuery() != null) {
+				// Keep the parameter names, drop their values.
+				normalized.append('?');
+				String[] parameters = uri.getRawQuery().split("&"); //$NON-NLS-1$
+				for (int i = 0; i < parameters.length; i++) {
+					int equals = parameters[i].indexOf('=');
+					normalized.append(i == 0 ? "" : "&").append(equals < 0 ? parameters[i] : parameters[i].substring(0, equals)); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+			return normalized.toString();
+		} catch (URISyntaxException e) {
+			return location.trim();
+		}
+	}
+}
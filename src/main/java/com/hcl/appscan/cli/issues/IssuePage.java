@@ -0,0 +1,126 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.issues;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hcl.appscan.cli.paging.Page;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of the issues of a scan. The page is read with a streaming parser that keeps only the exported fields of
+ * each issue, so the memory used does not depend on the size of the issue details the service returns.
+ */
+public final class IssuePage implements Page<Issue> {
+
+	private static final JsonFactory JSON = new JsonFactory();
+
+	private final List<Issue> m_issues;
+	private final long m_count;
+
+	IssuePage(List<Issue> issues, long count) {
+		m_issues = issues;
+		m_count = count;
+	}
+
+	@Override
+	public List<Issue> getItems() {
+		return Collections.unmodifiableList(m_issues);
+	}
+
+	@Override
+	public long getCount() {
+		return m_count;
+	}
+
+	/**
+	 * Reads a page: a JSON object with an "Items" array of issues and, optionally, the total "Count".
+	 *
+	 * @param in The response body. It is not closed.
+	 * @return The page.
+	 * @throws IOException If the body can not be read or is not a page of issues.
+	 */
+	public static IssuePage read(InputStream in) throws IOException {
+		JsonParser parser = JSON.createParser(in);
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			throw new IOException("Unexpected issues response"); //$NON-NLS-1$
+		}
+		List<Issue> issues = new ArrayList<>();
+		long count = -1;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if ("Items".equals(field) && value == JsonToken.START_ARRAY) { //$NON-NLS-1$
+				while (parser.nextToken() == JsonToken.START_OBJECT) {
+					issues.add(readIssue(parser));
+				}
+			} else if ("Count".equals(field) && value.isNumeric()) { //$NON-NLS-1$
+				count = parser.getLongValue();
+			} else {
+				parser.skipChildren();
+			}
+		}
+		return new IssuePage(issues, count);
+	}
+
+	private static Issue readIssue(JsonParser parser) throws IOException {
+		String id = null, issueType = null, severity = null, status = null, cwe = null, location = null, url = null;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if (value.isStructStart()) {
+				parser.skipChildren();
+				continue;
+			}
+			String text = parser.getValueAsString();
+			switch (field) {
+			case "Id": //$NON-NLS-1$
+				id = text;
+				break;
+			case "IssueType": //$NON-NLS-1$
+				issueType = text;
+				break;
+			case "Severity": //$NON-NLS-1$
+				severity = text;
+				break;
+			case "Status": //$NON-NLS-1$
+				status = text;
+				break;
+			case "Cwe": //$NON-NLS-1$
+				cwe = text;
+				break;
+			case "Location": //$NON-NLS-1$
+				location = text;
+				break;
+			case "Url": //$NON-NLS-1$
+				url = text;
+				break;
+			default:
+				break;
+			}
+		}
+		return new Issue(id, issueType, severity, status, cwe, location != null ? location : url);
+	}
+}
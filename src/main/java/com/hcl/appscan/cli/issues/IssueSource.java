@@ -0,0 +1,51 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.issues;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.constants.CLIConstants;
+import com.hcl.appscan.cli.paging.PagedSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Fetches the issues of a scan page by page. Pages are ordered by issue ID, so that they do not overlap and can be
+ * fetched in any order.
+ */
+public class IssueSource extends PagedSource<IssuePage> {
+
+	private final String m_scanId;
+
+	public IssueSource(CloudAuthenticationHandler authHandler, String scanId, int pageSize) {
+		super(authHandler, pageSize, "Issues"); //$NON-NLS-1$
+		m_scanId = scanId;
+	}
+
+	@Override
+	protected String getUrl(int page, boolean count) {
+		return m_authHandler.getServer() + String.format(CLIConstants.API_SCAN_ISSUES, m_scanId)
+				+ "?$orderby=Id&$top=" + m_pageSize + "&$skip=" + ((long) page * m_pageSize) + (count ? "&$count=true" : ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	}
+
+	@Override
+	protected IssuePage read(InputStream body) throws IOException {
+		return IssuePage.read(body);
+	}
+}
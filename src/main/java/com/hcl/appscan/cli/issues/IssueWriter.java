@@ -0,0 +1,77 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.issues;
+
+import com.hcl.appscan.cli.paging.ItemWriter;
+import com.hcl.appscan.cli.utils.RowWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes issues one at a time, as NDJSON (one JSON object per line) or as CSV with a header row.
+ */
+public abstract class IssueWriter implements ItemWriter<Issue> {
+
+	private static final String[] COLUMNS = { "id", "issueType", "severity", "status", "cwe", "location", "fingerprint" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+
+	@Override
+	public abstract void write(Issue issue) throws IOException;
+
+	@Override
+	public void flush() throws IOException {
+	}
+
+	public static IssueWriter ndjson(Writer out) throws IOException {
+		return new RowIssueWriter(RowWriter.jsonLines(out, COLUMNS));
+	}
+
+	public static IssueWriter csv(Writer out) throws IOException {
+		return new RowIssueWriter(RowWriter.csv(out, COLUMNS));
+	}
+
+	private static String[] values(Issue issue) {
+		return new String[] { issue.getId(), issue.getIssueType(), issue.getSeverity(), issue.getStatus(), issue.getCwe(),
+				issue.getLocation(), IssueFingerprint.toHex(issue.getFingerprint()) };
+	}
+
+	private static final class RowIssueWriter extends IssueWriter {
+
+		private final RowWriter m_rows;
+
+		RowIssueWriter(RowWriter rows) {
+			m_rows = rows;
+		}
+
+		@Override
+		public void write(Issue issue) throws IOException {
+			m_rows.write(values(issue));
+		}
+
+		@Override
+		public void flush() throws IOException {
+			m_rows.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			m_rows.close();
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.issues;
+
+/**
+ * Counts the issues of a scan that are not in a baseline, in total and by severity. Issues that are fixed, passed or
+ * marked as noise are not counted.
+ */
+public class NewIssueCounter extends IssueWriter {
+
+	private final BaselineIndex m_baseline;
+	private int m_total;
+	private int m_critical;
+	private int m_high;
+
+	public NewIssueCounter(BaselineIndex baseline) {
+		m_baseline = baseline;
+	}
+
+	@Override
+	public void write(Issue issue) {
+		if (!isActive(issue) || m_baseline.contains(issue.getFingerprint())) {
+			return;
+		}
+		m_total++;
+		if ("Critical".equalsIgnoreCase(issue.getSeverity())) { //$NON-NLS-1$
+			m_critical++;
+		} else if ("High".equalsIgnoreCase(issue.getSeverity())) { //$NON-NLS-1$
+			m_high++;
+		}
+	}
+
+	/**
+	 * @param issue An issue.
+	 * @return False if the issue is fixed, passed or noise.
+	 */
+	static boolean isActive(Issue issue) {
+		String status = issue.getStatus();
+		return !"Fixed".equalsIgnoreCase(status) && !"Passed".equalsIgnoreCase(status) && !"Noise".equalsIgnoreCase(status); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	public int getTotal() {
+		return m_total;
+	}
+
+	public int getCritical() {
+		return m_critical;
+	}
+
+	public int getHigh() {
+		return m_high;
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes an event as its time followed by its message, the same as the pattern {@code %d{HH:mm:ss.SSS} - %msg%n}.
+ * Formatting the line directly avoids loading the pattern parser and its converters when the CLI starts.
+ */
+public class ConsoleLayout extends LayoutBase<ILoggingEvent> {
+
+	private DateTimeFormatter m_timeFormat;
+
+	@Override
+	public void start() {
+		m_timeFormat = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault()); //$NON-NLS-1$
+		super.start();
+	}
+
+	@Override
+	public String doLayout(ILoggingEvent event) {
+		StringBuilder line = new StringBuilder(128);
+		m_timeFormat.formatTo(Instant.ofEpochMilli(event.getTimeStamp()), line);
+		line.append(" - ").append(event.getFormattedMessage()).append(CoreConstants.LINE_SEPARATOR); //$NON-NLS-1$
+		if (event.getThrowableProxy() != null) {
+			line.append(ThrowableProxyUtil.asString(event.getThrowableProxy())).append(CoreConstants.LINE_SEPARATOR);
+		}
+		return line.toString();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.Configurator;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import ch.qos.logback.core.spi.ContextAwareBase;
+
+/**
+ * Configures logging in code: every message at INFO and above is written to the console with its time. This is done
+ * before logback looks for a configuration file, which saves the XML parser, the configuration interpreter and the
+ * pattern parser from being loaded at every start. A configuration file given with
+ * {@code -Dlogback.configurationFile} is still used.
+ */
+public class LogConfigurator extends ContextAwareBase implements Configurator {
+
+	private static final String CONFIG_FILE_PROPERTY = "logback.configurationFile"; //$NON-NLS-1$
+
+	@Override
+	public ExecutionStatus configure(LoggerContext loggerContext) {
+		if (System.getProperty(CONFIG_FILE_PROPERTY) != null) {
+			return ExecutionStatus.INVOKE_NEXT_IF_ANY;
+		}
+		ConsoleLayout layout = new ConsoleLayout();
+		layout.setContext(loggerContext);
+		layout.start();
+
+		LayoutWrappingEncoder<ILoggingEvent> encoder = new LayoutWrappingEncoder<>();
+		encoder.setContext(loggerContext);
+		encoder.setLayout(layout);
+		encoder.start();
+
+		ConsoleAppender<ILoggingEvent> appender = new ConsoleAppender<>();
+		appender.setContext(loggerContext);
+		appender.setName("CONSOLE"); //$NON-NLS-1$
+		appender.setEncoder(encoder);
+		appender.start();
+
+		Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+		root.setLevel(Level.INFO);
+		root.addAppender(appender);
+		return ExecutionStatus.DO_NOT_INVOKE_NEXT_IF_ANY;
+	}
+}
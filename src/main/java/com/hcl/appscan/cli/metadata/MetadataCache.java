@@ -0,0 +1,354 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.metadata;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.constants.CLIConstants;
+import com.hcl.appscan.cli.http.HttpTransport;
+import com.hcl.appscan.cli.utils.AtomicFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the applications and presences of a tenant on disk between CLI invocations. Entries are keyed by server and
+ * API key ID, since an API key belongs to one tenant.
+ * <p>
+ * An entry is used as is while it is younger than the TTL. An older entry is revalidated with a conditional request
+ * (If-None-Match or If-Modified-Since), so an unchanged list is not downloaded again. If the list can not be fetched,
+ * an older entry is used rather than failing.
+ */
+public class MetadataCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(MetadataCache.class);
+	private static final JsonFactory JSON = new JsonFactory();
+	private static final String SUFFIX = ".json"; //$NON-NLS-1$
+	public static final long DEFAULT_TTL_SECONDS = TimeUnit.MINUTES.toSeconds(15);
+
+	/** The lists that are cached. */
+	public enum Resource {
+		Applications(CLIConstants.API_APPS, "Name", new String[] { "Id", "Name" }, new String[] { "id", "name" }), //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		Presences(CLIConstants.API_PRESENCES, "PresenceName", new String[] { "Id", "PresenceName", "Status" }, new String[] { "id", "name", "status" }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+
+		private final String m_path;
+		private final String m_nameField;
+		private final String[] m_fields;
+		private final String[] m_columns;
+
+		Resource(String path, String nameField, String[] fields, String[] columns) {
+			m_path = path;
+			m_nameField = nameField;
+			m_fields = fields;
+			m_columns = columns;
+		}
+
+		/**
+		 * @return The path of the list, with the query that selects its fields.
+		 */
+		public String getPath() {
+			return m_path;
+		}
+
+		public String getNameField() {
+			return m_nameField;
+		}
+
+		/**
+		 * @return The fields that are exported, as the service names them.
+		 */
+		public String[] getFields() {
+			return m_fields.clone();
+		}
+
+		/**
+		 * @return The names of the exported fields in the CLI output, in the order of {@link #getFields()}.
+		 */
+		public String[] getColumns() {
+			return m_columns.clone();
+		}
+	}
+
+	private static final ConcurrentMap<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+	private final Path m_directory;
+	private final long m_ttlMillis;
+	private final boolean m_refresh;
+
+	/**
+	 * @param directory The cache directory, or null to always fetch the lists.
+	 * @param ttlSeconds The time an entry is used without being revalidated.
+	 * @param refresh True to ignore the cached entries and fetch the lists again.
+	 */
+	public MetadataCache(File directory, long ttlSeconds, boolean refresh) {
+		m_directory = directory == null ? null : directory.toPath();
+		m_ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+		m_refresh = refresh;
+	}
+
+	public static File getDefaultDirectory() {
+		return new File(System.getProperty("user.home"), ".appscan" + File.separator + "metadata"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Returns the items of a list, by ID. Each item maps the fields the service returned to their values.
+	 *
+	 * @param authHandler The authenticated handler.
+	 * @param resource The list.
+	 * @return The items, in the order the service returned them.
+	 * @throws IOException If the list could not be fetched and is not cached.
+	 */
+	public Map<String, Map<String, String>> get(CloudAuthenticationHandler authHandler, Resource resource) throws IOException {
+		return load(authHandler, resource, m_refresh).m_items;
+	}
+
+	/**
+	 * Looks up one item. An item that is not in a cached entry may have been created since, so the entry is
+	 * revalidated before the item is reported missing.
+	 *
+	 * @param authHandler The authenticated handler.
+	 * @param resource The list.
+	 * @param id The ID of the item.
+	 * @return The fields of the item, or null if it does not exist.
+	 * @throws IOException If the list could not be fetched and is not cached.
+	 */
+	public Map<String, String> find(CloudAuthenticationHandler authHandler, Resource resource, String id) throws IOException {
+		Entry entry = load(authHandler, resource, m_refresh);
+		Map<String, String> item = findIgnoreCase(entry.m_items, id);
+		if (item == null && entry.m_cached) {
+			item = findIgnoreCase(load(authHandler, resource, true).m_items, id);
+		}
+		return item;
+	}
+
+	// IDs are GUIDs, which the service does not compare case sensitively.
+	private static Map<String, String> findIgnoreCase(Map<String, Map<String, String>> items, String id) {
+		Map<String, String> item = items.get(id);
+		if (item == null) {
+			for (Map.Entry<String, Map<String, String>> candidate : items.entrySet()) {
+				if (candidate.getKey().equalsIgnoreCase(id)) {
+					return candidate.getValue();
+				}
+			}
+		}
+		return item;
+	}
+
+	private Entry load(CloudAuthenticationHandler authHandler, Resource resource, boolean refresh) throws IOException {
+		if (m_directory == null) {
+			return fetch(authHandler, resource, null);
+		}
+		Path file = getFile(authHandler, resource);
+		// Scans of a batch that start together fetch a stale list once, and the others read the refreshed entry.
+		synchronized (LOCKS.computeIfAbsent(file, key -> new Object())) {
+			return load(authHandler, resource, file, refresh);
+		}
+	}
+
+	private Entry load(CloudAuthenticationHandler authHandler, Resource resource, Path file, boolean refresh) throws IOException {
+		Entry cached = read(file);
+		long now = System.currentTimeMillis();
+		if (cached != null && !refresh && now - cached.m_fetchedAt < m_ttlMillis) {
+			logger.debug("Using the cached {} ({} items)", resource, cached.m_items.size());
+			return cached;
+		}
+		Entry fetched;
+		try {
+			fetched = fetch(authHandler, resource, refresh ? null : cached);
+		} catch (IOException e) {
+			if (cached == null) {
+				throw e;
+			}
+			logger.warn("Unable to refresh the cached {}: {}. Using the list from {} seconds ago.", resource, e.getMessage(), //$NON-NLS-1$
+					TimeUnit.MILLISECONDS.toSeconds(now - cached.m_fetchedAt));
+			return cached;
+		}
+		try {
+			write(file, fetched);
+		} catch (IOException e) {
+			logger.debug("Unable to cache the {}: {}", resource, e.getMessage());
+		}
+		return fetched;
+	}
+
+	// Fetches the list. If it has not changed since the given entry was fetched, returns the entry instead.
+	private Entry fetch(CloudAuthenticationHandler authHandler, Resource resource, Entry cached) throws IOException {
+		if (authHandler.isTokenExpired()) {
+			throw new IOException("Unable to refresh the authentication token."); //$NON-NLS-1$
+		}
+		HttpRequest.Builder builder = HttpTransport.get().newRequest(authHandler.getServer() + resource.m_path, authHandler.getAuthState().getHeaders(true))
+				.header("Accept", "application/json"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (cached != null && cached.m_etag != null) {
+			builder.header("If-None-Match", cached.m_etag); //$NON-NLS-1$
+		} else if (cached != null && cached.m_lastModified != null) {
+			builder.header("If-Modified-Since", cached.m_lastModified); //$NON-NLS-1$
+		}
+		long start = System.currentTimeMillis();
+		HttpResponse<InputStream> response = HttpTransport.get().send(builder.GET().build(), HttpResponse.BodyHandlers.ofInputStream(), authHandler.getacceptInvalidCerts());
+		try (InputStream body = response.body()) {
+			if (cached != null && response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+				logger.debug("The cached {} are up to date", resource);
+				return new Entry(cached.m_items, start, cached.m_etag, cached.m_lastModified, false);
+			}
+			if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+				throw new IOException("Unexpected response code " + response.statusCode()); //$NON-NLS-1$
+			}
+			Map<String, Map<String, String>> items = byId(MetadataPage.read(JSON.createParser(body)).getItems());
+			logger.debug("Fetched {} {} in {} ms", items.size(), resource, System.currentTimeMillis() - start);
+			return new Entry(items, start, response.headers().firstValue("ETag").orElse(null), //$NON-NLS-1$
+					response.headers().firstValue("Last-Modified").orElse(null), false); //$NON-NLS-1$
+		}
+	}
+
+	private static Map<String, Map<String, String>> byId(List<Map<String, String>> items) {
+		Map<String, Map<String, String>> byId = new LinkedHashMap<>();
+		for (Map<String, String> item : items) {
+			byId.put(item.get("Id"), item); //$NON-NLS-1$
+		}
+		return Collections.unmodifiableMap(byId);
+	}
+
+	private static Entry read(Path file) {
+		try (JsonParser parser = JSON.createParser(file.toFile())) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+			long fetchedAt = -1;
+			String etag = null, lastModified = null;
+			Map<String, Map<String, String>> items = null;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if ("fetchedAt".equals(field) && value.isNumeric()) { //$NON-NLS-1$
+					fetchedAt = parser.getLongValue();
+				} else if ("etag".equals(field) && value == JsonToken.VALUE_STRING) { //$NON-NLS-1$
+					etag = parser.getText();
+				} else if ("lastModified".equals(field) && value == JsonToken.VALUE_STRING) { //$NON-NLS-1$
+					lastModified = parser.getText();
+				} else if ("items".equals(field) && value == JsonToken.START_ARRAY) { //$NON-NLS-1$
+					items = byId(MetadataPage.readItems(parser));
+				} else {
+					parser.skipChildren();
+				}
+			}
+			return fetchedAt < 0 || items == null ? null : new Entry(items, fetchedAt, etag, lastModified, true);
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException e) {
+			logger.debug("Ignoring the unreadable cache entry {}: {}", file, e.getMessage());
+			return null;
+		}
+	}
+
+	// Writes the entry to a temporary file that replaces the entry atomically, so concurrent readers never see a partial entry.
+	private void write(Path file, Entry entry) throws IOException {
+		createDirectory();
+		AtomicFile.write(file, AtomicFile.Permissions.Private, temp -> {
+			try (OutputStream out = Files.newOutputStream(temp); JsonGenerator generator = JSON.createGenerator(out, JsonEncoding.UTF8)) {
+				generator.writeStartObject();
+				generator.writeNumberField("fetchedAt", entry.m_fetchedAt); //$NON-NLS-1$
+				if (entry.m_etag != null) {
+					generator.writeStringField("etag", entry.m_etag); //$NON-NLS-1$
+				}
+				if (entry.m_lastModified != null) {
+					generator.writeStringField("lastModified", entry.m_lastModified); //$NON-NLS-1$
+				}
+				generator.writeArrayFieldStart("items"); //$NON-NLS-1$
+				for (Map<String, String> item : entry.m_items.values()) {
+					generator.writeStartObject();
+					for (Map.Entry<String, String> field : item.entrySet()) {
+						generator.writeStringField(field.getKey(), field.getValue());
+					}
+					generator.writeEndObject();
+				}
+				generator.writeEndArray();
+				generator.writeEndObject();
+			}
+		});
+	}
+
+	private Path getFile(CloudAuthenticationHandler authHandler, Resource resource) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			byte[] hash = digest.digest((authHandler.getAuthState().getKey() + "|" + authHandler.getServer()).getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			StringBuilder name = new StringBuilder(resource.name().toLowerCase()).append('_');
+			for (int i = 0; i < 16; i++) {
+				name.append(String.format("%02x", hash[i])); //$NON-NLS-1$
+			}
+			return m_directory.resolve(name + SUFFIX);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void createDirectory() throws IOException {
+		if (Files.isDirectory(m_directory)) {
+			return;
+		}
+		Files.createDirectories(m_directory);
+		try {
+			Files.setPosixFilePermissions(m_directory, PosixFilePermissions.fromString("rwx------")); //$NON-NLS-1$
+		} catch (UnsupportedOperationException e) {
+			// Not a POSIX file system.
+		}
+	}
+
+	private static final class Entry {
+
+		private final Map<String, Map<String, String>> m_items;
+		private final long m_fetchedAt;
+		private final String m_etag;
+		private final String m_lastModified;
+		// True if the entry was read from the cache rather than fetched by this run.
+		private final boolean m_cached;
+
+		Entry(Map<String, Map<String, String>> items, long fetchedAt, String etag, String lastModified, boolean cached) {
+			m_items = items;
+			m_fetchedAt = fetchedAt;
+			m_etag = etag;
+			m_lastModified = lastModified;
+			m_cached = cached;
+		}
+	}
+}
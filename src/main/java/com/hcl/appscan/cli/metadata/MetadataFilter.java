@@ -0,0 +1,71 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.metadata;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Selects the applications or presences whose name contains or starts with a text, ignoring case. The filter is sent
+ * to the service as an OData expression, and applied locally to cached lists.
+ */
+public final class MetadataFilter {
+
+	private final String m_field;
+	private final String m_text;
+	private final boolean m_prefix;
+
+	private MetadataFilter(String field, String text, boolean prefix) {
+		m_field = field;
+		m_text = text;
+		m_prefix = prefix;
+	}
+
+	public static MetadataFilter contains(MetadataCache.Resource resource, String text) {
+		return new MetadataFilter(resource.getNameField(), text, false);
+	}
+
+	public static MetadataFilter startsWith(MetadataCache.Resource resource, String text) {
+		return new MetadataFilter(resource.getNameField(), text, true);
+	}
+
+	/**
+	 * @return The OData $filter expression.
+	 */
+	public String toODataExpression() {
+		// String literals are quoted with single quotes, which are escaped by doubling them.
+		String literal = "'" + m_text.toLowerCase(Locale.ROOT).replace("'", "''") + "'"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		return (m_prefix ? "startswith" : "contains") + "(tolower(" + m_field + ")," + literal + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	}
+
+	/**
+	 * @param item An item of a list.
+	 * @return True if the item is selected.
+	 */
+	public boolean matches(Map<String, String> item) {
+		String name = item.get(m_field);
+		if (name == null) {
+			return false;
+		}
+		if (m_prefix) {
+			return name.regionMatches(true, 0, m_text, 0, m_text.length());
+		}
+		return name.toLowerCase(Locale.ROOT).contains(m_text.toLowerCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.metadata;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hcl.appscan.cli.paging.Page;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a list of applications or presences. Each item keeps the scalar fields the service returned; nested
+ * objects are skipped without being read into memory.
+ */
+public final class MetadataPage implements Page<Map<String, String>> {
+
+	private final List<Map<String, String>> m_items;
+	private final long m_count;
+
+	MetadataPage(List<Map<String, String>> items, long count) {
+		m_items = items;
+		m_count = count;
+	}
+
+	@Override
+	public List<Map<String, String>> getItems() {
+		return Collections.unmodifiableList(m_items);
+	}
+
+	@Override
+	public long getCount() {
+		return m_count;
+	}
+
+	/**
+	 * Reads a page: either an array of items or an object with an "Items" array and, optionally, the total "Count".
+	 *
+	 * @param parser The parser, before the first token of the page.
+	 * @return The page.
+	 * @throws IOException If the page can not be read.
+	 */
+	public static MetadataPage read(JsonParser parser) throws IOException {
+		JsonToken token = parser.nextToken();
+		if (token == JsonToken.START_ARRAY) {
+			return new MetadataPage(readItems(parser), -1);
+		}
+		if (token != JsonToken.START_OBJECT) {
+			throw new IOException("Unexpected list response"); //$NON-NLS-1$
+		}
+		List<Map<String, String>> items = null;
+		long count = -1;
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if ("Items".equals(field) && value == JsonToken.START_ARRAY) { //$NON-NLS-1$
+				items = readItems(parser);
+			} else if ("Count".equals(field) && value.isNumeric()) { //$NON-NLS-1$
+				count = parser.getLongValue();
+			} else {
+				parser.skipChildren();
+			}
+		}
+		if (items == null) {
+			throw new IOException("Unexpected list response"); //$NON-NLS-1$
+		}
+		return new MetadataPage(items, count);
+	}
+
+	// Reads the items of an array, from its start to its end.
+	static List<Map<String, String>> readItems(JsonParser parser) throws IOException {
+		List<Map<String, String>> items = new ArrayList<>();
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			Map<String, String> item = new LinkedHashMap<>();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (value.isStructStart()) {
+					parser.skipChildren();
+				} else if (value != JsonToken.VALUE_NULL) {
+					item.put(field, parser.getValueAsString());
+				}
+			}
+			if (item.containsKey("Id")) { //$NON-NLS-1$
+				items.add(Collections.unmodifiableMap(item));
+			}
+		}
+		return items;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.metadata;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.paging.PagedSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fetches a list of applications or presences page by page, filtered by the service. Pages are ordered by name and
+ * then ID, so that they do not overlap and can be fetched in any order.
+ */
+public class MetadataSource extends PagedSource<MetadataPage> {
+
+	private static final JsonFactory JSON = new JsonFactory();
+
+	private final MetadataCache.Resource m_resource;
+	private final MetadataFilter m_filter;
+
+	/**
+	 * @param authHandler The authenticated handler.
+	 * @param resource The list.
+	 * @param filter The filter, or null for all the items.
+	 * @param pageSize The number of items requested at a time.
+	 */
+	public MetadataSource(CloudAuthenticationHandler authHandler, MetadataCache.Resource resource, MetadataFilter filter, int pageSize) {
+		super(authHandler, pageSize, resource.toString());
+		m_resource = resource;
+		m_filter = filter;
+	}
+
+	@Override
+	protected String getUrl(int page, boolean count) {
+		StringBuilder url = new StringBuilder(m_authHandler.getServer()).append(m_resource.getPath())
+				.append("&$orderby=").append(m_resource.getNameField()).append(",Id") //$NON-NLS-1$ //$NON-NLS-2$
+				.append("&$top=").append(m_pageSize) //$NON-NLS-1$
+				.append("&$skip=").append((long) page * m_pageSize); //$NON-NLS-1$
+		if (m_filter != null) {
+			url.append("&$filter=").append(URLEncoder.encode(m_filter.toODataExpression(), StandardCharsets.UTF_8).replace("+", "%20")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		if (count) {
+			url.append("&$count=true"); //$NON-NLS-1$
+		}
+		return url.toString();
+	}
+
+	@Override
+	protected MetadataPage read(InputStream body) throws IOException {
+		return MetadataPage.read(JSON.createParser(body));
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.metadata;
+
+import com.hcl.appscan.cli.paging.ItemWriter;
+import com.hcl.appscan.cli.utils.RowWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Writes applications or presences one at a time, as a table, as JSON lines (one JSON object per line) or as CSV with
+ * a header row.
+ */
+public abstract class MetadataWriter implements ItemWriter<Map<String, String>> {
+
+	protected final String[] m_fields;
+	protected final String[] m_columns;
+	protected final Writer m_out;
+
+	MetadataWriter(MetadataCache.Resource resource, Writer out) {
+		m_fields = resource.getFields();
+		m_columns = resource.getColumns();
+		m_out = out;
+	}
+
+	@Override
+	public abstract void write(Map<String, String> item) throws IOException;
+
+	/**
+	 * The table the getapplications and getpresenceids commands have always printed: the ID and name of each item.
+	 *
+	 * @param resource The list.
+	 * @param out The output.
+	 * @param idTitle The title of the ID column.
+	 * @param nameTitle The title of the name column.
+	 * @return The writer.
+	 * @throws IOException If the header can not be written.
+	 */
+	public static MetadataWriter table(MetadataCache.Resource resource, Writer out, String idTitle, String nameTitle) throws IOException {
+		return new TableWriter(resource, out, idTitle, nameTitle);
+	}
+
+	public static MetadataWriter jsonLines(MetadataCache.Resource resource, Writer out) throws IOException {
+		return new RowMetadataWriter(resource, out, RowWriter.jsonLines(out, resource.getColumns()));
+	}
+
+	public static MetadataWriter csv(MetadataCache.Resource resource, Writer out) throws IOException {
+		return new RowMetadataWriter(resource, out, RowWriter.csv(out, resource.getColumns()));
+	}
+
+	@Override
+	public void flush() throws IOException {
+		m_out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		m_out.close();
+	}
+
+	private static final class TableWriter extends MetadataWriter {
+
+		TableWriter(MetadataCache.Resource resource, Writer out, String idTitle, String nameTitle) throws IOException {
+			super(resource, out);
+			m_out.write(idTitle + " \t\t\t\t\t\t\t" + nameTitle + System.lineSeparator()); //$NON-NLS-1$
+			m_out.write("---------------------------------------------------------------------------------" + System.lineSeparator()); //$NON-NLS-1$
+		}
+
+		@Override
+		public void write(Map<String, String> item) throws IOException {
+			m_out.write(String.format("%-15s\t-\t%s%n", item.get(m_fields[0]), item.get(m_fields[1]))); //$NON-NLS-1$
+		}
+	}
+
+	private static final class RowMetadataWriter extends MetadataWriter {
+
+		private final RowWriter m_rows;
+
+		RowMetadataWriter(MetadataCache.Resource resource, Writer out, RowWriter rows) {
+			super(resource, out);
+			m_rows = rows;
+		}
+
+		@Override
+		public void write(Map<String, String> item) throws IOException {
+			String[] values = new String[m_fields.length];
+			for (int i = 0; i < m_fields.length; i++) {
+				values[i] = item.get(m_fields[i]);
+			}
+			m_rows.write(values);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			m_rows.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			m_rows.close();
+		}
+	}
+}
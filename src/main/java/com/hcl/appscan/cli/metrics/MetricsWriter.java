@@ -0,0 +1,142 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.metrics;
+
+import com.hcl.appscan.cli.utils.AtomicFile;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Writes the {@link ScanMetrics} of a run to a file: in the Prometheus text format for files ending with .prom, which
+ * the node_exporter textfile collector reads, and as JSON otherwise. The file is replaced atomically, so a collector
+ * never reads a partial file.
+ */
+public final class MetricsWriter {
+
+	private static final String PREFIX = "appscan_cli_"; //$NON-NLS-1$
+
+	private MetricsWriter() {
+	}
+
+	/**
+	 * @param metrics The metrics of the run.
+	 * @param exitCode The exit code of the run.
+	 * @param file The file to write.
+	 * @throws IOException If the file can not be written.
+	 */
+	public static void write(ScanMetrics metrics, int exitCode, File file) throws IOException {
+		Path target = file.getAbsoluteFile().toPath();
+		Files.createDirectories(target.getParent());
+		// The collector usually runs as another user.
+		AtomicFile.write(target, AtomicFile.Permissions.Default, temp -> {
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				if (file.getName().toLowerCase(Locale.ROOT).endsWith(".prom")) { //$NON-NLS-1$
+					writePrometheus(metrics, exitCode, out);
+				} else {
+					writeJson(metrics, exitCode, out);
+				}
+			}
+		});
+	}
+
+	static void writeJson(ScanMetrics metrics, int exitCode, OutputStream out) throws IOException {
+		try (JsonGenerator generator = new JsonFactory().createGenerator(out)) {
+			generator.useDefaultPrettyPrinter();
+			generator.writeStartObject();
+			generator.writeStringField("scanId", metrics.getScanId()); //$NON-NLS-1$
+			generator.writeStringField("scanName", metrics.getScanName()); //$NON-NLS-1$
+			generator.writeStringField("appId", metrics.getAppId()); //$NON-NLS-1$
+			generator.writeNumberField("exitCode", exitCode); //$NON-NLS-1$
+			generator.writeStringField("startedAt", Instant.ofEpochMilli(metrics.getStartMillis()).toString()); //$NON-NLS-1$
+			generator.writeNumberField("durationSeconds", round(metrics.getElapsedSeconds())); //$NON-NLS-1$
+			generator.writeObjectFieldStart("phaseSeconds"); //$NON-NLS-1$
+			for (ScanMetrics.Phase phase : ScanMetrics.Phase.values()) {
+				generator.writeNumberField(phase.name(), round(metrics.getSeconds(phase)));
+			}
+			generator.writeEndObject();
+			generator.writeObjectFieldStart("counters"); //$NON-NLS-1$
+			for (ScanMetrics.Counter counter : ScanMetrics.Counter.values()) {
+				generator.writeNumberField(counter.name(), metrics.get(counter));
+			}
+			generator.writeEndObject();
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		}
+	}
+
+	static void writePrometheus(ScanMetrics metrics, int exitCode, OutputStream out) throws IOException {
+		String labels = "app_id=\"" + escape(metrics.getAppId()) + "\",scan_id=\"" + escape(metrics.getScanId()) + "\""; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+			header(writer, "phase_seconds", "Time the scan run spent in each phase."); //$NON-NLS-1$ //$NON-NLS-2$
+			for (ScanMetrics.Phase phase : ScanMetrics.Phase.values()) {
+				sample(writer, "phase_seconds", labels + ",phase=\"" + phase.name() + "\"", round(metrics.getSeconds(phase))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			header(writer, "run_seconds", "Duration of the scan run."); //$NON-NLS-1$ //$NON-NLS-2$
+			sample(writer, "run_seconds", labels, round(metrics.getElapsedSeconds())); //$NON-NLS-1$
+			header(writer, "run_start_timestamp_seconds", "Time the scan run started, in seconds since the epoch."); //$NON-NLS-1$ //$NON-NLS-2$
+			sample(writer, "run_start_timestamp_seconds", labels, metrics.getStartMillis() / 1000.0); //$NON-NLS-1$
+			header(writer, "exit_code", "Exit code of the scan run."); //$NON-NLS-1$ //$NON-NLS-2$
+			sample(writer, "exit_code", labels, exitCode); //$NON-NLS-1$
+			for (ScanMetrics.Counter counter : ScanMetrics.Counter.values()) {
+				String name = snakeCase(counter.name());
+				header(writer, name, "Number of " + name.replace('_', ' ') + " during the scan run."); //$NON-NLS-1$ //$NON-NLS-2$
+				sample(writer, name, labels, metrics.get(counter));
+			}
+		}
+	}
+
+	// The values are gauges: each run replaces the file, so they do not accumulate across runs.
+	private static void header(Writer writer, String name, String help) throws IOException {
+		writer.write("# HELP " + PREFIX + name + " " + help + "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		writer.write("# TYPE " + PREFIX + name + " gauge\n"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void sample(Writer writer, String name, String labels, double value) throws IOException {
+		String number = BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+		writer.write(PREFIX + name + "{" + labels + "} " + number + "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private static String escape(String value) {
+		if (value == null) {
+			return ""; //$NON-NLS-1$
+		}
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+	}
+
+	private static String snakeCase(String name) {
+		return name.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static double round(double seconds) {
+		return Math.round(seconds * 1000) / 1000.0;
+	}
+}
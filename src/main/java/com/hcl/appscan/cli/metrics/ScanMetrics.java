@@ -0,0 +1,228 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.metrics;
+
+import com.hcl.appscan.cli.http.HttpTransport;
+import com.hcl.appscan.sdk.CoreConstants;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The time a scan run spends in each of its phases, and counters of the work it does. Safe for use from the threads of
+ * the post-scan stages.
+ */
+public class ScanMetrics {
+
+	/** The phases of a scan run. */
+	public enum Phase {
+		/** Checking that the service is reachable, and logging in. */
+		login,
+		/** The checks of the application, presence or target and files. */
+		preflight,
+		/** Creating the scan, including the upload of the scan and login files. */
+		submit,
+		/** The scan waiting in the queue of the service, as seen by the status checks. */
+		queued,
+		/** The scan running (or paused), as seen by the status checks. */
+		running,
+		/** Waiting for the service to generate the report, until its first data arrived. */
+		reportGeneration,
+		/** Receiving the report. */
+		reportDownload,
+		/** Downloading the scan log. */
+		scanLogDownload
+	}
+
+	/** The counters of a scan run. */
+	public enum Counter {
+		/** Requests sent by the CLI itself. The requests the AppScan SDK sends are not included. */
+		httpRequests,
+		/** Requests sent by the CLI that failed or were answered with an error status. */
+		httpErrors,
+		/** Scan status checks. */
+		statusChecks,
+		/** Status checks and downloads repeated after a failure. */
+		retries,
+		/** Bytes of reports and scan logs downloaded. */
+		bytesDownloaded
+	}
+
+	private final Map<Phase, LongAdder> m_phaseNanos = new EnumMap<>(Phase.class);
+	private final Map<Counter, LongAdder> m_counters = new EnumMap<>(Counter.class);
+	private long m_startMillis = System.currentTimeMillis();
+	private long m_startNanos = System.nanoTime();
+	private long m_httpRequestsAtStart;
+	private long m_httpErrorsAtStart;
+	private volatile String m_scanId;
+	private volatile String m_appId;
+	private volatile String m_scanName;
+	private Phase m_statusPhase;
+	private long m_statusSince;
+
+	public ScanMetrics() {
+		// The maps are filled once, so they are only read concurrently.
+		for (Phase phase : Phase.values()) {
+			m_phaseNanos.put(phase, new LongAdder());
+		}
+		for (Counter counter : Counter.values()) {
+			m_counters.put(counter, new LongAdder());
+		}
+	}
+
+	/**
+	 * Marks the start of the run. The HTTP counters count the requests sent from now on.
+	 */
+	public void start() {
+		m_startMillis = System.currentTimeMillis();
+		m_startNanos = System.nanoTime();
+		m_httpRequestsAtStart = HttpTransport.get().getRequestCount();
+		m_httpErrorsAtStart = HttpTransport.get().getErrorCount();
+	}
+
+	/**
+	 * Adds time to a phase. The times of reports downloaded at the same time add up.
+	 *
+	 * @param phase The phase.
+	 * @param nanos The time in nanoseconds.
+	 */
+	public void record(Phase phase, long nanos) {
+		m_phaseNanos.get(phase).add(nanos);
+	}
+
+	public void recordMillis(Phase phase, long millis) {
+		record(phase, TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+
+	public void add(Counter counter, long value) {
+		m_counters.get(counter).add(value);
+	}
+
+	/**
+	 * Takes a scan status into account. The time between two status changes counts as queued or running, according to
+	 * the first status. Unknown statuses, from failed status checks, do not change the phase.
+	 *
+	 * @param status The status of the scan.
+	 */
+	public synchronized void observeStatus(String status) {
+		if (CoreConstants.UNKNOWN.equalsIgnoreCase(status)) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (m_statusPhase != null) {
+			record(m_statusPhase, now - m_statusSince);
+		}
+		if (CoreConstants.INQUEUE.equalsIgnoreCase(status)) {
+			m_statusPhase = Phase.queued;
+		} else if (CoreConstants.RUNNING.equalsIgnoreCase(status) || CoreConstants.PAUSING.equalsIgnoreCase(status)
+				|| CoreConstants.PAUSED.equalsIgnoreCase(status)) {
+			m_statusPhase = Phase.running;
+		} else {
+			m_statusPhase = null;
+		}
+		m_statusSince = now;
+	}
+
+	public void setScan(String scanId, String scanName) {
+		m_scanId = scanId;
+		m_scanName = scanName;
+	}
+
+	public void setAppId(String appId) {
+		m_appId = appId;
+	}
+
+	public String getScanId() {
+		return m_scanId;
+	}
+
+	public String getScanName() {
+		return m_scanName;
+	}
+
+	public String getAppId() {
+		return m_appId;
+	}
+
+	/**
+	 * @return The time the run started, in milliseconds since the epoch.
+	 */
+	public long getStartMillis() {
+		return m_startMillis;
+	}
+
+	/**
+	 * @return The time since the run started, in seconds.
+	 */
+	public double getElapsedSeconds() {
+		return (System.nanoTime() - m_startNanos) / 1e9;
+	}
+
+	/**
+	 * @param phase A phase.
+	 * @return The time spent in the phase, in seconds.
+	 */
+	public double getSeconds(Phase phase) {
+		return m_phaseNanos.get(phase).sum() / 1e9;
+	}
+
+	/**
+	 * @param counter A counter.
+	 * @return Its value.
+	 */
+	public long get(Counter counter) {
+		long value = m_counters.get(counter).sum();
+		if (counter == Counter.httpRequests) {
+			value += HttpTransport.get().getRequestCount() - m_httpRequestsAtStart;
+		} else if (counter == Counter.httpErrors) {
+			value += HttpTransport.get().getErrorCount() - m_httpErrorsAtStart;
+		}
+		return value;
+	}
+
+	/**
+	 * Times a phase that ends when the returned timer is closed.
+	 *
+	 * @param phase The phase.
+	 * @return The timer.
+	 */
+	public Timer time(Phase phase) {
+		return new Timer(phase, System.nanoTime());
+	}
+
+	/** Records the time of a phase when closed. */
+	public final class Timer implements AutoCloseable {
+
+		private final Phase m_phase;
+		private final long m_start;
+
+		Timer(Phase phase, long start) {
+			m_phase = phase;
+			m_start = start;
+		}
+
+		@Override
+		public void close() {
+			record(m_phase, System.nanoTime() - m_start);
+		}
+	}
+}
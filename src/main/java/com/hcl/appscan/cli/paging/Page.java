@@ -0,0 +1,39 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.paging;
+
+import java.util.List;
+
+/**
+ * One page of a list the service returns page by page.
+ *
+ * @param <T> The type of the items.
+ */
+public interface Page<T> {
+
+	/**
+	 * @return The items of the page, in the order the service returned them.
+	 */
+	List<T> getItems();
+
+	/**
+	 * @return The total number of items of the list, or -1 if the service did not return it.
+	 */
+	long getCount();
+}
@@ -0,0 +1,121 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.paging;
+
+import com.hcl.appscan.cli.polling.ScanThreads;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Exports a list in order. The first page is written as soon as it arrives, while the next pages are already being
+ * fetched, and each page is released once it is written, so the memory used depends on the page size and the number
+ * of pages fetched ahead, not on the size of the list.
+ *
+ * @param <T> The type of the items.
+ */
+public class PagedExporter<T> {
+
+	private final PagedSource<? extends Page<T>> m_source;
+	private final int m_prefetch;
+	private final String m_threadName;
+
+	/**
+	 * @param source The source of the list.
+	 * @param prefetch The maximum number of pages fetched ahead of the page being written.
+	 * @param threadName The name of the threads that fetch the pages.
+	 */
+	public PagedExporter(PagedSource<? extends Page<T>> source, int prefetch, String threadName) {
+		m_source = source;
+		m_prefetch = Math.max(1, prefetch);
+		m_threadName = threadName;
+	}
+
+	/**
+	 * Writes all the items of the list.
+	 *
+	 * @param writer The writer.
+	 * @return The number of items written.
+	 * @throws IOException If a page could not be fetched or the items could not be written.
+	 * @throws InterruptedException If the thread was interrupted.
+	 */
+	public long export(ItemWriter<? super T> writer) throws IOException, InterruptedException {
+		int pageSize = m_source.getPageSize();
+		// The first page also returns the number of items, which tells how many pages to request.
+		Page<T> first = m_source.fetch(0, true);
+		long pages = first.getCount() >= 0 ? (first.getCount() + pageSize - 1) / pageSize : Long.MAX_VALUE;
+		if (first.getItems().size() < pageSize || pages <= 1) {
+			return write(first, writer);
+		}
+
+		ExecutorService executor = ScanThreads.newExecutor(m_threadName);
+		Deque<Future<? extends Page<T>>> inFlight = new ArrayDeque<>();
+		try {
+			int next = 1;
+			while (next < pages && inFlight.size() < m_prefetch) {
+				inFlight.add(submit(executor, next++));
+			}
+			// The next pages are requested before the first one is written, so a slow output does not delay them.
+			long written = write(first, writer);
+			while (!inFlight.isEmpty()) {
+				Page<T> page = get(inFlight.poll());
+				if (next < pages && page.getItems().size() == pageSize) {
+					inFlight.add(submit(executor, next++));
+				}
+				written += write(page, writer);
+				if (page.getItems().size() < pageSize) {
+					// The last page. Pages requested after it are empty.
+					break;
+				}
+			}
+			return written;
+		} finally {
+			for (Future<? extends Page<T>> future : inFlight) {
+				future.cancel(true);
+			}
+			executor.shutdownNow();
+		}
+	}
+
+	private Future<? extends Page<T>> submit(ExecutorService executor, int page) {
+		return executor.submit(() -> m_source.fetch(page, false));
+	}
+
+	private static <T> Page<T> get(Future<? extends Page<T>> future) throws IOException, InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof IOException ? (IOException) cause : new IOException(String.valueOf(cause.getMessage()), cause);
+		}
+	}
+
+	private static <T> long write(Page<T> page, ItemWriter<? super T> writer) throws IOException {
+		for (T item : page.getItems()) {
+			writer.write(item);
+		}
+		// Every page is shown as soon as it is written, so the first items appear while the rest of the list is fetched.
+		writer.flush();
+		return page.getItems().size();
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.paging;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.http.HttpTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Fetches a list page by page. Pages must be ordered so that they do not overlap and can be fetched in any order.
+ * Failed connections, throttled requests (429) and server errors (5xx) are retried, after the delay of the Retry-After
+ * header when the service sends one. Other responses fail at once.
+ *
+ * @param <P> The type of the pages.
+ */
+public abstract class PagedSource<P extends Page<?>> {
+
+	private static final Logger logger = LoggerFactory.getLogger(PagedSource.class);
+	private static final int ATTEMPTS = 3;
+	private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+	protected final CloudAuthenticationHandler m_authHandler;
+	protected final int m_pageSize;
+	private final String m_name;
+
+	/**
+	 * @param authHandler The authenticated handler.
+	 * @param pageSize The number of items requested at a time.
+	 * @param name The name of the list, for the log.
+	 */
+	protected PagedSource(CloudAuthenticationHandler authHandler, int pageSize, String name) {
+		m_authHandler = authHandler;
+		m_pageSize = pageSize;
+		m_name = name;
+	}
+
+	public int getPageSize() {
+		return m_pageSize;
+	}
+
+	/**
+	 * @param page The index of the page, from 0.
+	 * @param count True to also request the total number of items.
+	 * @return The URL of the page.
+	 */
+	protected abstract String getUrl(int page, boolean count);
+
+	/**
+	 * @param body The response body. It is closed by the caller.
+	 * @return The page.
+	 * @throws IOException If the body is not a page.
+	 */
+	protected abstract P read(InputStream body) throws IOException;
+
+	/**
+	 * Fetches a page.
+	 *
+	 * @param page The index of the page, from 0.
+	 * @param count True to also request the total number of items.
+	 * @return The page.
+	 * @throws IOException If the page could not be fetched.
+	 */
+	public P fetch(int page, boolean count) throws IOException {
+		String url = getUrl(page, count);
+		IOException failure = null;
+		for (int attempt = 1; attempt <= ATTEMPTS; attempt++) {
+			long delay = 1000L * attempt;
+			try {
+				return request(url);
+			} catch (RequestException e) {
+				if (!e.isTransient()) {
+					throw e;
+				}
+				failure = e;
+				if (e.getRetryAfter() >= 0) {
+					delay = e.getRetryAfter();
+				}
+			} catch (IOException e) {
+				failure = e;
+			}
+			logger.debug("{} page {} failed (attempt {} of {}): {}", m_name, page, attempt, ATTEMPTS, failure.getMessage());
+			if (attempt < ATTEMPTS) {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					throw new IOException(ie);
+				}
+			}
+		}
+		throw failure;
+	}
+
+	private P request(String url) throws IOException {
+		if (m_authHandler.isTokenExpired()) {
+			throw new RequestException("Unable to refresh the authentication token.", false, -1); //$NON-NLS-1$
+		}
+		HttpRequest request = HttpTransport.get().newRequest(url, m_authHandler.getAuthState().getHeaders(true))
+				.header("Accept", "application/json").GET().build(); //$NON-NLS-1$ //$NON-NLS-2$
+		HttpResponse<InputStream> response = HttpTransport.get().send(request, HttpResponse.BodyHandlers.ofInputStream(), m_authHandler.getacceptInvalidCerts());
+		try (InputStream body = response.body()) {
+			int status = response.statusCode();
+			if (status != HttpURLConnection.HTTP_OK) {
+				boolean throttled = status == 429;
+				throw new RequestException("Unexpected response code " + status, throttled || status >= 500, //$NON-NLS-1$
+						throttled ? getRetryAfter(response) : -1);
+			}
+			return read(body);
+		}
+	}
+
+	// Retry-After is either a number of seconds or an HTTP date. A long or invalid value is capped or ignored.
+	private static long getRetryAfter(HttpResponse<?> response) {
+		Optional<String> value = response.headers().firstValue("Retry-After"); //$NON-NLS-1$
+		if (!value.isPresent()) {
+			return -1;
+		}
+		long seconds;
+		try {
+			seconds = Long.parseLong(value.get().trim());
+		} catch (NumberFormatException e) {
+			try {
+				seconds = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value.get().trim(), DateTimeFormatter.RFC_1123_DATE_TIME)).getSeconds();
+			} catch (DateTimeParseException de) {
+				return -1;
+			}
+		}
+		return Math.min(Math.max(0, seconds), MAX_RETRY_AFTER_SECONDS) * 1000;
+	}
+
+	private static final class RequestException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final boolean m_transient;
+		private final long m_retryAfter;
+
+		RequestException(String message, boolean isTransient, long retryAfter) {
+			super(message);
+			m_transient = isTransient;
+			m_retryAfter = retryAfter;
+		}
+
+		boolean isTransient() {
+			return m_transient;
+		}
+
+		long getRetryAfter() {
+			return m_retryAfter;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.polling;
+
+import com.hcl.appscan.sdk.CoreConstants;
+
+import java.util.Random;
+
+/**
+ * Polls quickly while a scan is queued or starting, backs off exponentially (with jitter) while it is running,
+ * and shortens the interval again once the reported progress suggests the scan is close to completion.
+ */
+public class AdaptivePollScheduler implements PollScheduler {
+
+	private final long m_minIntervalMs;
+	private final long m_maxIntervalMs;
+	private final double m_backoff;
+	private final double m_jitter;
+	private final Random m_random;
+
+	private String m_lastStatus;
+	private int m_step;
+
+	/**
+	 * @param minIntervalSec The interval used while the scan is queued or starting, and the lower bound for all delays.
+	 * @param maxIntervalSec The upper bound for all delays.
+	 * @param backoff The factor applied to the interval on each consecutive check of a running scan.
+	 * @param jitter The fraction (0 to 1) by which each delay is randomly shortened or lengthened.
+	 */
+	public AdaptivePollScheduler(int minIntervalSec, int maxIntervalSec, double backoff, double jitter) {
+		this(minIntervalSec, maxIntervalSec, backoff, jitter, new Random());
+	}
+
+	public AdaptivePollScheduler(int minIntervalSec, int maxIntervalSec, double backoff, double jitter, Random random) {
+		m_minIntervalMs = Math.max(1, minIntervalSec) * 1000L;
+		m_maxIntervalMs = Math.max(m_minIntervalMs, maxIntervalSec * 1000L);
+		m_backoff = Math.max(1.0, backoff);
+		m_jitter = Math.min(1.0, Math.max(0.0, jitter));
+		m_random = random;
+	}
+
+	@Override
+	public synchronized long nextDelay(String status, int progress, int durationSec) {
+		if (status == null || !status.equalsIgnoreCase(m_lastStatus)) {
+			m_step = 0;
+		}
+		m_lastStatus = status;
+
+		if (isStarting(status, progress)) {
+			return m_minIntervalMs;
+		}
+
+		double delay = m_minIntervalMs * Math.pow(m_backoff, m_step);
+		if (delay < m_maxIntervalMs) {
+			m_step++;
+		}
+		delay = Math.min(delay, m_maxIntervalMs);
+
+		// Never sleep past roughly half of the estimated remaining time, so short tails are picked up promptly.
+		long eta = estimateRemainingMs(progress, durationSec);
+		if (eta >= 0) {
+			delay = Math.min(delay, eta / 2.0);
+		}
+
+		delay += delay * m_jitter * (2 * m_random.nextDouble() - 1);
+		return Math.max(m_minIntervalMs, Math.min(m_maxIntervalMs, Math.round(delay)));
+	}
+
+	@Override
+	public synchronized void reset() {
+		m_lastStatus = null;
+		m_step = 0;
+	}
+
+	private static boolean isStarting(String status, int progress) {
+		if (status == null || CoreConstants.INQUEUE.equalsIgnoreCase(status) || CoreConstants.UNKNOWN.equalsIgnoreCase(status)) {
+			return true;
+		}
+		return CoreConstants.RUNNING.equalsIgnoreCase(status) && progress <= 0;
+	}
+
+	private static long estimateRemainingMs(int progress, int durationSec) {
+		if (progress <= 0 || progress > 100 || durationSec <= 0) {
+			return -1;
+		}
+		return Math.round(durationSec * 1000.0 * (100 - progress) / progress);
+	}
+}
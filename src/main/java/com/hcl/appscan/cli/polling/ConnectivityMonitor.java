@@ -0,0 +1,127 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.polling;
+
+import com.hcl.appscan.cli.scanners.ValidationUtil;
+
+import java.io.Closeable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks whether the AppScan service is reachable by sending a HEAD request to the service root from a background thread.
+ * The state only flips to unreachable after several consecutive failures, and back to reachable after several consecutive
+ * successes, so a single dropped probe does not interrupt status polling. Callers may also report the outcome of their own
+ * requests to the service.
+ */
+public class ConnectivityMonitor implements Closeable {
+
+	private static final long PROBE_INTERVAL_MS = 15000;
+	private static final int FAILURE_THRESHOLD = 3;
+	private static final int RECOVERY_THRESHOLD = 2;
+	private static final int MAX_CONSECUTIVE_FAILURES = 10;
+	private static final long MAX_OUTAGE_MS = TimeUnit.MINUTES.toMillis(5);
+
+	private final String m_url;
+	private final boolean m_allowUntrusted;
+	private final ScheduledExecutorService m_executor;
+
+	private boolean m_reachable = true;
+	private int m_consecutiveFailures;
+	private int m_consecutiveSuccesses;
+	private long m_outageStart;
+
+	public ConnectivityMonitor(String url, boolean allowUntrusted) {
+		m_url = url;
+		m_allowUntrusted = allowUntrusted;
+		m_executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "appscan-connectivity-monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts probing the service in the background.
+	 *
+	 * @return This monitor.
+	 */
+	public ConnectivityMonitor start() {
+		m_executor.scheduleWithFixedDelay(this::probe, 0, PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+		return this;
+	}
+
+	/**
+	 * @return True unless the service has failed enough consecutive checks to be considered unreachable.
+	 */
+	public synchronized boolean isReachable() {
+		return m_reachable;
+	}
+
+	public synchronized int getConsecutiveFailures() {
+		return m_consecutiveFailures;
+	}
+
+	/**
+	 * @return The time in milliseconds since the first failure of the current run of failures, or 0 if the last check succeeded.
+	 */
+	public synchronized long getOutageDuration() {
+		return m_consecutiveFailures == 0 ? 0 : System.currentTimeMillis() - m_outageStart;
+	}
+
+	/**
+	 * @return True once the service has been failing long enough that waiting for it is pointless.
+	 */
+	public synchronized boolean hasGivenUp() {
+		return m_consecutiveFailures >= MAX_CONSECUTIVE_FAILURES && getOutageDuration() >= MAX_OUTAGE_MS;
+	}
+
+	public synchronized void reportSuccess() {
+		m_consecutiveFailures = 0;
+		m_consecutiveSuccesses++;
+		if (!m_reachable && m_consecutiveSuccesses >= RECOVERY_THRESHOLD) {
+			m_reachable = true;
+		}
+	}
+
+	public synchronized void reportFailure() {
+		if (m_consecutiveFailures == 0) {
+			m_outageStart = System.currentTimeMillis();
+		}
+		m_consecutiveFailures++;
+		m_consecutiveSuccesses = 0;
+		if (m_reachable && m_consecutiveFailures >= FAILURE_THRESHOLD) {
+			m_reachable = false;
+		}
+	}
+
+	@Override
+	public void close() {
+		m_executor.shutdownNow();
+	}
+
+	private void probe() {
+		if (ValidationUtil.checkASoCConnectivity(m_url, m_allowUntrusted)) {
+			reportSuccess();
+		} else {
+			reportFailure();
+		}
+	}
+}
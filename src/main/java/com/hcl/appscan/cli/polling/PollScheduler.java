@@ -0,0 +1,40 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.polling;
+
+/**
+ * Decides how long to wait between two scan status checks.
+ */
+public interface PollScheduler {
+
+	/**
+	 * Computes the delay before the next status check.
+	 *
+	 * @param status The scan status observed on the last check.
+	 * @param progress The scan progress in percent, or -1 if unknown.
+	 * @param durationSec The scan execution duration in seconds, or -1 if unknown.
+	 * @return The delay in milliseconds.
+	 */
+	long nextDelay(String status, int progress, int durationSec);
+
+	/**
+	 * Resets any state accumulated from previous checks.
+	 */
+	void reset();
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.polling;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket that spaces out requests to the AppScan service. Up to one second's worth of permits can be used in a
+ * burst; after that, callers wait in turn. Each caller reserves its permit before waiting, so the lock is never held
+ * while sleeping.
+ */
+public class RateLimiter {
+
+	private final long m_intervalNanos;
+	private final double m_maxPermits;
+	private double m_permits;
+	private long m_lastRefill;
+
+	/**
+	 * @param permitsPerSecond The sustained rate. 0 or less for no limit.
+	 */
+	public RateLimiter(double permitsPerSecond) {
+		m_intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+		m_maxPermits = Math.max(1, permitsPerSecond);
+		m_permits = m_maxPermits;
+		m_lastRefill = System.nanoTime();
+	}
+
+	/**
+	 * @return A rate limiter that never waits.
+	 */
+	public static RateLimiter unlimited() {
+		return new RateLimiter(0);
+	}
+
+	/**
+	 * Waits until a permit is available.
+	 *
+	 * @throws InterruptedException If the calling thread is interrupted while waiting.
+	 */
+	public void acquire() throws InterruptedException {
+		if (m_intervalNanos == 0) {
+			return;
+		}
+		long waitNanos = reserve();
+		if (waitNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	private synchronized long reserve() {
+		long now = System.nanoTime();
+		m_permits = Math.min(m_maxPermits, m_permits + (double) (now - m_lastRefill) / m_intervalNanos);
+		m_lastRefill = now;
+		m_permits -= 1;
+		return m_permits >= 0 ? 0 : (long) (-m_permits * m_intervalNanos);
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.polling;
+
+import com.hcl.appscan.sdk.CoreConstants;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.hcl.appscan.cli.constants.CLIConstants.SCAN_STATUS_COMPLETED;
+import static com.hcl.appscan.cli.constants.CLIConstants.SCAN_STATUS_READY;
+
+/**
+ * Waits for scans to finish. One monitor can watch any number of scans at once: the scans share one
+ * {@link ConnectivityMonitor} and one {@link RateLimiter}, and each waiting scan only holds its own thread, which is a
+ * virtual thread when the scan runs on a {@link ScanThreads} executor.
+ */
+public class ScanMonitor implements Closeable {
+
+	// A scan whose details keep coming back without an execution (deleted, or malformed details) is given up on like an
+	// unreachable service. The limits are per scan, as the connectivity monitor is shared by all the scans.
+	private static final int MAX_CHECKS_WITHOUT_EXECUTION = 10;
+	private static final long MAX_TIME_WITHOUT_EXECUTION_MS = TimeUnit.MINUTES.toMillis(5);
+
+	private final ConnectivityMonitor m_connectivity;
+	private final RateLimiter m_rateLimiter;
+
+	/**
+	 * @param connectivity The monitor of the service the scans run on. It is started here and closed with this monitor.
+	 * @param rateLimiter The limiter for status checks.
+	 */
+	public ScanMonitor(ConnectivityMonitor connectivity, RateLimiter rateLimiter) {
+		m_connectivity = connectivity.start();
+		m_rateLimiter = rateLimiter;
+	}
+
+	/**
+	 * Polls the scan until it is no longer active, until the service has been unreachable for too long, or until the
+	 * details of the scan have been without an execution for too long.
+	 *
+	 * @param poller The poller of the scan.
+	 * @param scheduler The scheduler of the status checks. Each scan needs its own.
+	 * @param listener Called with each snapshot of the scan while it is active.
+	 * @return The last snapshot.
+	 * @throws InterruptedException If the calling thread is interrupted.
+	 */
+	public ScanSnapshot await(ScanPoller poller, PollScheduler scheduler, Consumer<ScanSnapshot> listener) throws InterruptedException {
+		ScanSnapshot snapshot = poll(poller);
+		String status = getStatus(snapshot);
+		int checksWithoutExecution = 0;
+		long withoutExecutionSince = 0;
+		while (isActive(status) && !m_connectivity.hasGivenUp()) {
+			if (snapshot.isReachable() && !snapshot.hasExecution()) {
+				if (checksWithoutExecution++ == 0) {
+					withoutExecutionSince = System.currentTimeMillis();
+				}
+				if (checksWithoutExecution >= MAX_CHECKS_WITHOUT_EXECUTION
+						&& System.currentTimeMillis() - withoutExecutionSince >= MAX_TIME_WITHOUT_EXECUTION_MS) {
+					break;
+				}
+			} else if (snapshot.isReachable()) {
+				checksWithoutExecution = 0;
+			}
+			listener.accept(snapshot);
+			Thread.sleep(scheduler.nextDelay(status, snapshot.getProgress(), snapshot.getDurationSec()));
+			snapshot = poll(poller);
+			status = getStatus(snapshot);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * @param snapshot A scan snapshot.
+	 * @return The status of the scan, with Ready reported as Completed.
+	 */
+	public static String getStatus(ScanSnapshot snapshot) {
+		String status = snapshot.getStatus();
+		return SCAN_STATUS_READY.equalsIgnoreCase(status) ? SCAN_STATUS_COMPLETED : status;
+	}
+
+	/**
+	 * @param status A scan status.
+	 * @return True if the scan has not finished yet, or its status is unknown.
+	 */
+	public static boolean isActive(String status) {
+		return status != null && (status.equalsIgnoreCase(CoreConstants.INQUEUE) || status.equalsIgnoreCase(CoreConstants.RUNNING) || status.equalsIgnoreCase(CoreConstants.UNKNOWN) || status.equalsIgnoreCase(CoreConstants.PAUSING) || status.equalsIgnoreCase(CoreConstants.PAUSED));
+	}
+
+	@Override
+	public void close() {
+		m_connectivity.close();
+	}
+
+	// While the connectivity monitor reports an outage the status check is skipped; it keeps probing in the background.
+	private ScanSnapshot poll(ScanPoller poller) throws InterruptedException {
+		if (!m_connectivity.isReachable()) {
+			return ScanSnapshot.unknown(poller.getLastSnapshot());
+		}
+		m_rateLimiter.acquire();
+		ScanSnapshot snapshot = poller.poll();
+		if (snapshot.isReachable()) {
+			m_connectivity.reportSuccess();
+		} else {
+			m_connectivity.reportFailure();
+		}
+		return snapshot;
+	}
+}
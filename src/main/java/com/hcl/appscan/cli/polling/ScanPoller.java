@@ -0,0 +1,141 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.polling;
+
+import com.hcl.appscan.cli.auth.CloudAuthenticationHandler;
+import com.hcl.appscan.cli.constants.CLIConstants;
+import com.hcl.appscan.cli.http.HttpTransport;
+import com.hcl.appscan.sdk.auth.IAuthenticationProvider;
+import com.hcl.appscan.sdk.scan.IScanServiceProvider;
+import org.apache.wink.json4j.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * Fetches the scan details once per status check and derives the scan status, duration and progress from that single payload.
+ * The request is made conditional (If-None-Match) when the service returns an ETag, so an unchanged scan costs an empty 304 response.
+ * If the conditional request cannot be made, the poller falls back to {@link IScanServiceProvider#getScanDetails(String)}.
+ */
+public class ScanPoller {
+
+	private static final Logger logger = LoggerFactory.getLogger(ScanPoller.class);
+
+	private final String m_scanId;
+	private final IScanServiceProvider m_serviceProvider;
+	private final IAuthenticationProvider m_authProvider;
+
+	private boolean m_conditional = true;
+	private String m_etag;
+	private ScanSnapshot m_last;
+	private int m_requestCount;
+
+	public ScanPoller(String scanId, IScanServiceProvider serviceProvider) {
+		m_scanId = scanId;
+		m_serviceProvider = serviceProvider;
+		m_authProvider = serviceProvider.getAuthenticationProvider();
+	}
+
+	/**
+	 * Performs one status check.
+	 *
+	 * @return The current snapshot. If the check failed, the snapshot has an unknown status and {@link ScanSnapshot#isReachable()} returns false.
+	 */
+	public ScanSnapshot poll() {
+		try {
+			JSONObject details = fetchDetails();
+			if (details != null) {
+				m_last = ScanSnapshot.of(details);
+			} else if (m_last == null) {
+				m_last = ScanSnapshot.unknown(null);
+			}
+			return m_last;
+		} catch (Exception e) {
+			logger.debug("Scan status check failed: " + e.getMessage());
+			return ScanSnapshot.unknown(m_last);
+		}
+	}
+
+	/**
+	 * @return The last snapshot that was fetched successfully, or null if none was.
+	 */
+	public ScanSnapshot getLastSnapshot() {
+		return m_last;
+	}
+
+	/**
+	 * @return The number of scan details requests sent so far.
+	 */
+	public int getRequestCount() {
+		return m_requestCount;
+	}
+
+	// Returns null if the scan details have not changed since the last request.
+	private JSONObject fetchDetails() throws Exception {
+		m_requestCount++;
+		if (m_conditional && m_authProvider != null) {
+			JSONObject details = fetchConditional();
+			if (m_conditional) {
+				return details;
+			}
+		}
+		return m_serviceProvider.getScanDetails(m_scanId);
+	}
+
+	private JSONObject fetchConditional() throws Exception {
+		if (m_authProvider.isTokenExpired()) {
+			throw new IOException("Unable to refresh the authentication token.");
+		}
+		String url = m_authProvider.getServer() + String.format(CLIConstants.API_SCAN_DETAILS, m_scanId);
+		HttpRequest.Builder request = HttpTransport.get().newRequest(url, getAuthorizationHeaders()).header("Accept", "application/json");
+		if (m_etag != null && m_last != null) {
+			request.header("If-None-Match", m_etag);
+		}
+
+		HttpResponse<String> response = HttpTransport.get().send(request.GET().build(), HttpResponse.BodyHandlers.ofString(), m_authProvider.getacceptInvalidCerts());
+		int responseCode = response.statusCode();
+		if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+			return null;
+		}
+		if (responseCode != HttpURLConnection.HTTP_OK) {
+			if (responseCode >= 500 || responseCode == HttpURLConnection.HTTP_UNAUTHORIZED || responseCode == 429) {
+				throw new IOException("Unexpected response code " + responseCode);
+			}
+			// The endpoint is not usable with this service; let the SDK handle all further requests.
+			logger.debug("Conditional scan details request returned " + responseCode + ", falling back to the SDK.");
+			m_conditional = false;
+			return null;
+		}
+		m_etag = response.headers().firstValue("ETag").orElse(null);
+		return new JSONObject(response.body());
+	}
+
+	// The CLI's own handler exposes its prebuilt headers, which saves a copy on every tick.
+	private Map<String, String> getAuthorizationHeaders() {
+		if (m_authProvider instanceof CloudAuthenticationHandler) {
+			return ((CloudAuthenticationHandler) m_authProvider).getAuthState().getHeaders(true);
+		}
+		return m_authProvider.getAuthorizationHeader(true);
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.polling;
+
+import com.hcl.appscan.sdk.CoreConstants;
+import org.apache.wink.json4j.JSONObject;
+
+/**
+ * The state of a scan as seen by a single scan details request.
+ */
+public class ScanSnapshot {
+
+	private static final String LATEST_EXECUTION = "LatestExecution";
+
+	private final JSONObject m_details;
+	private final String m_status;
+	private final int m_progress;
+	private final int m_durationSec;
+	private final String m_message;
+	private final boolean m_reachable;
+
+	private ScanSnapshot(JSONObject details, String status, int progress, int durationSec, String message, boolean reachable) {
+		m_details = details;
+		m_status = status;
+		m_progress = progress;
+		m_durationSec = durationSec;
+		m_message = message;
+		m_reachable = reachable;
+	}
+
+	/**
+	 * Creates a snapshot from a scan details payload.
+	 *
+	 * @param details The scan details JSON.
+	 * @return The snapshot.
+	 */
+	public static ScanSnapshot of(JSONObject details) {
+		JSONObject latestExecution = details.optJSONObject(LATEST_EXECUTION);
+		if (latestExecution == null) {
+			return new ScanSnapshot(details, CoreConstants.UNKNOWN, -1, -1, null, true);
+		}
+		return new ScanSnapshot(details,
+				latestExecution.optString("Status", CoreConstants.UNKNOWN),
+				latestExecution.optInt("Progress", -1),
+				latestExecution.optInt("ExecutionDurationSec", -1),
+				latestExecution.optString("UserMessage", null),
+				true);
+	}
+
+	/**
+	 * Creates a snapshot for a status check that could not be completed. The details of the previous snapshot, if any, are kept.
+	 *
+	 * @param previous The last successful snapshot, or null.
+	 * @return The snapshot.
+	 */
+	public static ScanSnapshot unknown(ScanSnapshot previous) {
+		JSONObject details = previous == null ? null : previous.m_details;
+		return new ScanSnapshot(details, CoreConstants.UNKNOWN, -1, -1, null, false);
+	}
+
+	public JSONObject getDetails() {
+		return m_details;
+	}
+
+	public String getStatus() {
+		return m_status;
+	}
+
+	public int getProgress() {
+		return m_progress;
+	}
+
+	public int getDurationSec() {
+		return m_durationSec;
+	}
+
+	public String getMessage() {
+		return m_message;
+	}
+
+	/**
+	 * @return False if the status check that produced this snapshot failed.
+	 */
+	public boolean isReachable() {
+		return m_reachable;
+	}
+
+	public boolean hasExecution() {
+		return m_details != null && m_details.has(LATEST_EXECUTION);
+	}
+
+	@Override
+	public String toString() {
+		return "ScanSnapshot{" +
+				"m_status='" + m_status + '\'' +
+				", m_progress=" + m_progress +
+				", m_durationSec=" + m_durationSec +
+				", m_reachable=" + m_reachable +
+				'}';
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.polling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads for work that spends most of its time waiting: scan status polling and report downloads. On Java 21 or later
+ * each task runs on its own virtual thread, so thousands of waiting scans only need a few carrier threads. On older
+ * runtimes the tasks run on daemon platform threads.
+ * <p>
+ * The CLI is built for Java 11, so virtual threads are looked up reflectively.
+ */
+public final class ScanThreads {
+
+	private static final Logger logger = LoggerFactory.getLogger(ScanThreads.class);
+
+	private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual"); //$NON-NLS-1$
+	private static final Method NEW_THREAD_PER_TASK_EXECUTOR = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class); //$NON-NLS-1$
+
+	private static volatile ExecutorService shared;
+
+	private ScanThreads() {
+	}
+
+	/**
+	 * @return True if tasks run on virtual threads.
+	 */
+	public static boolean isVirtual() {
+		return OF_VIRTUAL != null && NEW_THREAD_PER_TASK_EXECUTOR != null;
+	}
+
+	/**
+	 * Creates an executor that starts a new thread for each task.
+	 *
+	 * @param name The thread name prefix.
+	 * @return The executor. The caller shuts it down.
+	 */
+	public static ExecutorService newExecutor(String name) {
+		ThreadFactory factory = newVirtualThreadFactory(name);
+		if (factory != null) {
+			try {
+				return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+			} catch (ReflectiveOperationException e) {
+				logger.debug("Virtual threads are not available: " + e.getMessage());
+			}
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		return Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * @return The executor shared by all scans for short background tasks such as downloads.
+	 */
+	public static ExecutorService shared() {
+		if (shared == null) {
+			synchronized (ScanThreads.class) {
+				if (shared == null) {
+					shared = newExecutor("appscan-task");
+				}
+			}
+		}
+		return shared;
+	}
+
+	// Thread.ofVirtual().name(name + "-", 1).factory()
+	private static ThreadFactory newVirtualThreadFactory(String name) {
+		if (!isVirtual()) {
+			return null;
+		}
+		try {
+			Object builder = OF_VIRTUAL.invoke(null);
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder"); //$NON-NLS-1$
+			builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 1L); //$NON-NLS-1$
+			return (ThreadFactory) builderType.getMethod("factory").invoke(builder); //$NON-NLS-1$
+		} catch (ReflectiveOperationException e) {
+			logger.debug("Virtual threads are not available: " + e.getMessage());
+			return null;
+		}
+	}
+
+	private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+		try {
+			return type.getMethod(name, parameterTypes);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.results;
+
+import com.hcl.appscan.cli.polling.ScanThreads;
+import com.hcl.appscan.cli.utils.AtomicFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipFile;
+
+/**
+ * Downloads a report or scan log to a file. The transfer itself is done by the AppScan SDK; this class supervises it:
+ * <ul>
+ * <li>the transfer writes to a temporary file that replaces the target only once it is complete and intact, so an
+ * interrupted download never leaves a truncated artifact behind;</li>
+ * <li>the service may take up to the generation timeout to prepare the artifact. Once data arrives, the transfer is
+ * abandoned when the file has not grown for the idle timeout, rather than after a fixed total time, so large artifacts
+ * that keep arriving are not lost;</li>
+ * <li>failed and stalled transfers are retried once the abandoned transfer has stopped, so two transfers never write at
+ * the same time;</li>
+ * <li>the downloaded file is checked (not empty, readable zip archive for .zip files). Its SHA-256 is computed for the
+ * log only: the service does not provide a digest to compare it with.</li>
+ * </ul>
+ */
+public class ArtifactDownload {
+
+	private static final Logger logger = LoggerFactory.getLogger(ArtifactDownload.class);
+	private static final long CHECK_INTERVAL_MS = 1000;
+	// Until data arrives the file is checked more often, to time the wait for the service more precisely.
+	private static final long FIRST_DATA_CHECK_INTERVAL_MS = 100;
+	// The time an abandoned transfer gets to stop before the download is given up instead of retried.
+	private static final long STOP_TIMEOUT_SECONDS = 30;
+
+	/** Writes the artifact to a file. */
+	public interface Transfer {
+		void writeTo(File file) throws Exception;
+	}
+
+	private final String m_name;
+	private final File m_target;
+	private final Transfer m_transfer;
+	private final long m_generationTimeoutNanos;
+	private final long m_idleTimeoutNanos;
+	private final int m_attempts;
+
+	/**
+	 * @param name The name of the artifact, for messages.
+	 * @param target The file to download to.
+	 * @param transfer Writes the artifact to the given file.
+	 * @param generationTimeoutSeconds The time the service may take to prepare the artifact, until the first data arrives.
+	 * @param idleTimeoutSeconds The time a transfer may go without writing any data, once data has arrived, before it is
+	 *        abandoned.
+	 * @param attempts The number of attempts.
+	 */
+	public ArtifactDownload(String name, File target, Transfer transfer, int generationTimeoutSeconds, int idleTimeoutSeconds, int attempts) {
+		m_name = name;
+		m_target = target;
+		m_transfer = transfer;
+		m_generationTimeoutNanos = TimeUnit.SECONDS.toNanos(generationTimeoutSeconds);
+		m_idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+		m_attempts = Math.max(1, attempts);
+	}
+
+	/**
+	 * Downloads the artifact.
+	 *
+	 * @return The result of the download, or null if the service did not provide the artifact.
+	 * @throws IOException If all the attempts failed.
+	 * @throws InterruptedException If the thread was interrupted.
+	 */
+	public Result run() throws IOException, InterruptedException {
+		Path directory = m_target.getAbsoluteFile().toPath().getParent();
+		Files.createDirectories(directory);
+		IOException failure = null;
+		for (int attempt = 1; attempt <= m_attempts; attempt++) {
+			// A stalled transfer may still be writing, so every attempt gets its own temporary file. The transfer creates
+			// the file itself, so the artifact gets the default permissions rather than those of a temporary file.
+			Path part = AtomicFile.newSibling(directory.resolve(m_target.getName()), ".part"); //$NON-NLS-1$
+			try {
+				long start = System.nanoTime();
+				long waitNanos = transfer(part.toFile());
+				if (!Files.exists(part)) {
+					return null;
+				}
+				String checksum = verify(part);
+				long bytes = Files.size(part);
+				AtomicFile.replace(part, m_target.getAbsoluteFile().toPath());
+				return new Result(m_target, bytes, System.nanoTime() - start, waitNanos, attempt, checksum);
+			} catch (TransferNotStoppedException e) {
+				throw e;
+			} catch (IOException e) {
+				failure = e;
+				if (attempt < m_attempts) {
+					logger.warn("Download of the {} failed (attempt {} of {}): {}. Retrying.", m_name, attempt, m_attempts, e.getMessage());
+				}
+			} finally {
+				Files.deleteIfExists(part);
+			}
+		}
+		throw failure;
+	}
+
+	// Runs the transfer and watches the file it writes. Gives up once no data has arrived within the generation timeout,
+	// or the file has not grown for the idle timeout. Returns the time until the first data was written, or the whole
+	// time if the file was written between two checks.
+	private long transfer(File part) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		AtomicBoolean abandoned = new AtomicBoolean();
+		CountDownLatch exited = new CountDownLatch(1);
+		Future<?> task = ScanThreads.shared().submit(() -> {
+			try {
+				m_transfer.writeTo(part);
+			} finally {
+				// The SDK does not stop a blocking copy when interrupted, so an abandoned transfer cleans up once it returns.
+				if (abandoned.get()) {
+					part.delete();
+				}
+				exited.countDown();
+			}
+			return null;
+		});
+		long lastSize = 0;
+		long lastProgress = start;
+		long firstData = -1;
+		try {
+			while (true) {
+				try {
+					task.get(firstData < 0 ? FIRST_DATA_CHECK_INTERVAL_MS : CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+					return (firstData < 0 ? System.nanoTime() : firstData) - start;
+				} catch (TimeoutException e) {
+					long size = part.length();
+					long now = System.nanoTime();
+					if (firstData < 0) {
+						if (size > 0) {
+							firstData = now;
+							lastSize = size;
+							lastProgress = now;
+						} else if (now - start > m_generationTimeoutNanos) {
+							throw new IOException("No data received within " + TimeUnit.NANOSECONDS.toSeconds(m_generationTimeoutNanos) + " seconds"); //$NON-NLS-1$ //$NON-NLS-2$
+						}
+					} else if (size != lastSize) {
+						lastSize = size;
+						lastProgress = now;
+					} else if (now - lastProgress > m_idleTimeoutNanos) {
+						throw new IOException("No data received for " + TimeUnit.NANOSECONDS.toSeconds(m_idleTimeoutNanos) + " seconds"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					throw cause instanceof IOException ? (IOException) cause : new IOException(String.valueOf(cause.getMessage()), cause);
+				}
+			}
+		} finally {
+			if (!task.isDone()) {
+				abandoned.set(true);
+				task.cancel(true);
+				if (!exited.await(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+					throw new TransferNotStoppedException("The abandoned transfer did not stop, so it is not retried"); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	// Checks that the file is complete and returns its SHA-256.
+	private String verify(Path part) throws IOException {
+		if (Files.size(part) == 0) {
+			throw new IOException("The downloaded file is empty"); //$NON-NLS-1$
+		}
+		if (m_target.getName().toLowerCase().endsWith(".zip")) { //$NON-NLS-1$
+			try (ZipFile zip = new ZipFile(part.toFile())) {
+				// Opening the archive reads its central directory, which is at the end of the file.
+			}
+		}
+		try (FileChannel channel = FileChannel.open(part, StandardOpenOption.READ)) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+			StringBuilder hex = new StringBuilder();
+			for (byte b : digest.digest()) {
+				hex.append(String.format("%02x", b)); //$NON-NLS-1$
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// Thrown when an abandoned transfer may still be writing, so that no other attempt runs next to it.
+	private static final class TransferNotStoppedException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		TransferNotStoppedException(String message) {
+			super(message);
+		}
+	}
+
+	/** The outcome of a successful download. */
+	public static final class Result {
+
+		private final File m_file;
+		private final long m_bytes;
+		private final long m_elapsedNanos;
+		private final long m_waitNanos;
+		private final int m_attempts;
+		private final String m_checksum;
+
+		Result(File file, long bytes, long elapsedNanos, long waitNanos, int attempts, String checksum) {
+			m_file = file;
+			m_bytes = bytes;
+			m_elapsedNanos = elapsedNanos;
+			m_waitNanos = waitNanos;
+			m_attempts = attempts;
+			m_checksum = checksum;
+		}
+
+		public File getFile() {
+			return m_file;
+		}
+
+		public long getBytes() {
+			return m_bytes;
+		}
+
+		public long getElapsedMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(m_elapsedNanos);
+		}
+
+		/**
+		 * @return The time of the successful attempt until the first data arrived, mostly the time the service took to
+		 *         prepare the file. Measured to within 100 ms.
+		 */
+		public long getWaitMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(m_waitNanos);
+		}
+
+		/**
+		 * @return The number of attempts, including the successful one.
+		 */
+		public int getAttempts() {
+			return m_attempts;
+		}
+
+		/**
+		 * @return The SHA-256 of the file as a hex string, for the log. It is not verified against the service.
+		 */
+		public String getChecksum() {
+			return m_checksum;
+		}
+
+		/**
+		 * @return The average transfer rate in KB per second, including the time the service took to prepare the file.
+		 */
+		public double getKilobytesPerSecond() {
+			return m_elapsedNanos == 0 ? 0 : (m_bytes / 1024.0) / (m_elapsedNanos / 1e9);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s (%d bytes in %.1f s, %.1f KB/s, SHA-256 %s)", m_file.getAbsolutePath(), m_bytes, //$NON-NLS-1$
+					m_elapsedNanos / 1e9, getKilobytesPerSecond(), m_checksum);
+		}
+	}
+}
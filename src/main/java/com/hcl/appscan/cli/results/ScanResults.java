@@ -19,8 +19,10 @@
 package com.hcl.appscan.cli.results;
 
 
+import com.hcl.appscan.cli.polling.ScanSnapshot;
 import com.hcl.appscan.sdk.CoreConstants;
 import com.hcl.appscan.sdk.results.IResultsProvider;
+import org.apache.wink.json4j.JSONObject;
 
 public class ScanResults  {
 
@@ -30,6 +32,7 @@ public class ScanResults  {
 	private final String m_name;
 	private final String m_status;
 	private final String m_scanServerUrl;
+	private final ScanSnapshot m_snapshot;
 
 	private final int m_totalFindings;
 	private final int m_criticalCount;
@@ -41,6 +44,11 @@ public class ScanResults  {
 
 	public ScanResults(IResultsProvider provider, String name, String status,
                        int totalFindings, int criticalCount, int highCount, int mediumCount, int lowCount, int infoCount, String scanServerUrl) {
+		this(provider, name, status, totalFindings, criticalCount, highCount, mediumCount, lowCount, infoCount, scanServerUrl, null);
+	}
+
+	public ScanResults(IResultsProvider provider, String name, String status,
+                       int totalFindings, int criticalCount, int highCount, int mediumCount, int lowCount, int infoCount, String scanServerUrl, ScanSnapshot snapshot) {
 
 		m_provider = provider;
 		m_name = name;
@@ -53,6 +61,7 @@ public class ScanResults  {
 		m_infoCount = infoCount;
 
 		m_scanServerUrl = scanServerUrl;
+		m_snapshot = snapshot;
                 //getReport();
 	}
 	
@@ -107,6 +116,13 @@ public class ScanResults  {
 		return m_scanServerUrl;
 	}
 
+	/**
+	 * @return The scan details fetched by the last status check, or null if they are not available.
+	 */
+	public JSONObject getScanDetails() {
+		return m_snapshot == null ? null : m_snapshot.getDetails();
+	}
+
 
 	private String getReportName() {
 		String name = (getScanType() + getName()).replaceAll(" ", "");  //$NON-NLS-2$
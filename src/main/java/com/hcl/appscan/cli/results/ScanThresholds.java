@@ -0,0 +1,180 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.results;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The issue count thresholds of the failbuildif conditions. The conditions are OR'd together: the results exceed the
+ * thresholds if any single count is greater than its threshold. The new issue thresholds apply to the issues that are
+ * not in a baseline.
+ */
+public class ScanThresholds {
+
+	public static final String TOTAL = "totalissuesgt"; //$NON-NLS-1$
+	public static final String CRITICAL = "criticalissuesgt"; //$NON-NLS-1$
+	public static final String HIGH = "highissuesgt"; //$NON-NLS-1$
+	public static final String MEDIUM = "medissuesgt"; //$NON-NLS-1$
+	public static final String LOW = "lowissuesgt"; //$NON-NLS-1$
+	public static final String NEW_TOTAL = "newissuesgt"; //$NON-NLS-1$
+	public static final String NEW_CRITICAL = "newcriticalissuesgt"; //$NON-NLS-1$
+	public static final String NEW_HIGH = "newhighissuesgt"; //$NON-NLS-1$
+
+	private static final int NONE = Integer.MAX_VALUE;
+
+	private final int m_total;
+	private final int m_critical;
+	private final int m_high;
+	private final int m_medium;
+	private final int m_low;
+	private final int m_newTotal;
+	private final int m_newCritical;
+	private final int m_newHigh;
+
+	public ScanThresholds(int total, int critical, int high, int medium, int low) {
+		this(total, critical, high, medium, low, NONE, NONE, NONE);
+	}
+
+	public ScanThresholds(int total, int critical, int high, int medium, int low, int newTotal, int newCritical, int newHigh) {
+		m_total = total;
+		m_critical = critical;
+		m_high = high;
+		m_medium = medium;
+		m_low = low;
+		m_newTotal = newTotal;
+		m_newCritical = newCritical;
+		m_newHigh = newHigh;
+	}
+
+	/**
+	 * @return Thresholds that are never exceeded.
+	 */
+	public static ScanThresholds none() {
+		return new ScanThresholds(NONE, NONE, NONE, NONE, NONE);
+	}
+
+	/**
+	 * Returns a copy of these thresholds with one threshold changed.
+	 *
+	 * @param name The threshold name, one of {@link #TOTAL}, {@link #CRITICAL}, {@link #HIGH}, {@link #MEDIUM}, {@link #LOW},
+	 *            {@link #NEW_TOTAL}, {@link #NEW_CRITICAL} or {@link #NEW_HIGH}.
+	 * @param value The threshold value.
+	 * @return The new thresholds.
+	 * @throws IllegalArgumentException If the name is not a threshold name.
+	 */
+	public ScanThresholds with(String name, int value) {
+		switch (name) {
+		case TOTAL:
+			return new ScanThresholds(value, m_critical, m_high, m_medium, m_low, m_newTotal, m_newCritical, m_newHigh);
+		case CRITICAL:
+			return new ScanThresholds(m_total, value, m_high, m_medium, m_low, m_newTotal, m_newCritical, m_newHigh);
+		case HIGH:
+			return new ScanThresholds(m_total, m_critical, value, m_medium, m_low, m_newTotal, m_newCritical, m_newHigh);
+		case MEDIUM:
+			return new ScanThresholds(m_total, m_critical, m_high, value, m_low, m_newTotal, m_newCritical, m_newHigh);
+		case LOW:
+			return new ScanThresholds(m_total, m_critical, m_high, m_medium, value, m_newTotal, m_newCritical, m_newHigh);
+		case NEW_TOTAL:
+			return new ScanThresholds(m_total, m_critical, m_high, m_medium, m_low, value, m_newCritical, m_newHigh);
+		case NEW_CRITICAL:
+			return new ScanThresholds(m_total, m_critical, m_high, m_medium, m_low, m_newTotal, value, m_newHigh);
+		case NEW_HIGH:
+			return new ScanThresholds(m_total, m_critical, m_high, m_medium, m_low, m_newTotal, m_newCritical, value);
+		default:
+			throw new IllegalArgumentException(name);
+		}
+	}
+
+	public static boolean isThresholdName(String name) {
+		return TOTAL.equals(name) || CRITICAL.equals(name) || HIGH.equals(name) || MEDIUM.equals(name) || LOW.equals(name)
+				|| NEW_TOTAL.equals(name) || NEW_CRITICAL.equals(name) || NEW_HIGH.equals(name);
+	}
+
+	/**
+	 * @return True if at least one threshold is set.
+	 */
+	public boolean isSpecified() {
+		return m_total != NONE || m_critical != NONE || m_high != NONE || m_medium != NONE || m_low != NONE || hasNewIssueThresholds();
+	}
+
+	/**
+	 * @return True if at least one new issue threshold is set. These need a baseline.
+	 */
+	public boolean hasNewIssueThresholds() {
+		return m_newTotal != NONE || m_newCritical != NONE || m_newHigh != NONE;
+	}
+
+	/**
+	 * @return The message keys of the thresholds with an invalid (negative) value, in option order.
+	 */
+	public List<String> getInvalidThresholds() {
+		List<String> invalid = new ArrayList<String>();
+		if (m_total < 0)
+			invalid.add("error.invalid.totalissuesgt"); //$NON-NLS-1$
+		if (m_high < 0)
+			invalid.add("error.invalid.highissuesgt"); //$NON-NLS-1$
+		if (m_medium < 0)
+			invalid.add("error.invalid.medissuesgt"); //$NON-NLS-1$
+		if (m_low < 0)
+			invalid.add("error.invalid.lowissuesgt"); //$NON-NLS-1$
+		if (m_critical < 0)
+			invalid.add("error.invalid.criticalissuesgt"); //$NON-NLS-1$
+		if (m_newTotal < 0)
+			invalid.add("error.invalid.newissuesgt"); //$NON-NLS-1$
+		if (m_newHigh < 0)
+			invalid.add("error.invalid.newhighissuesgt"); //$NON-NLS-1$
+		if (m_newCritical < 0)
+			invalid.add("error.invalid.newcriticalissuesgt"); //$NON-NLS-1$
+		return invalid;
+	}
+
+	/**
+	 * @param results The scan results.
+	 * @return True if any issue count of the results is greater than its threshold.
+	 */
+	public boolean isExceededBy(ScanResults results) {
+		return results.getTotalFindings() > m_total || results.getCriticalCount() > m_critical ||
+				results.getHighCount() > m_high || results.getMediumCount() > m_medium || results.getLowCount() > m_low;
+	}
+
+	/**
+	 * @param total The number of new issues.
+	 * @param critical The number of new critical issues.
+	 * @param high The number of new high issues.
+	 * @return True if any new issue count is greater than its threshold.
+	 */
+	public boolean isExceededByNewIssues(int total, int critical, int high) {
+		return total > m_newTotal || critical > m_newCritical || high > m_newHigh;
+	}
+
+	@Override
+	public String toString() {
+		return "ScanThresholds{" +
+				"total=" + m_total +
+				", critical=" + m_critical +
+				", high=" + m_high +
+				", medium=" + m_medium +
+				", low=" + m_low +
+				", newTotal=" + m_newTotal +
+				", newCritical=" + m_newCritical +
+				", newHigh=" + m_newHigh +
+				'}';
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.scanners;
+
+import com.hcl.appscan.cli.utils.AtomicFile;
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records the scan a CLI run has submitted, so that a retried run can attach to it instead of submitting a new scan.
+ * The file is replaced atomically, so a run that is killed while writing it leaves the previous version intact.
+ */
+public class ScanCheckpoint {
+
+	private static final Logger logger = LoggerFactory.getLogger(ScanCheckpoint.class);
+
+	/** The phase of the run that wrote the checkpoint. */
+	public enum Phase {
+		/** The scan was submitted and its results have not been processed yet. */
+		Submitted,
+		/** The results of the scan were processed; a new run starts a new scan. */
+		Completed,
+		/** The scan failed or its results could not be retrieved; a new run starts a new scan. */
+		Failed
+	}
+
+	private static final String SCAN_ID = "scanId"; //$NON-NLS-1$
+	private static final String SCAN_NAME = "scanName"; //$NON-NLS-1$
+	private static final String APP_ID = "appId"; //$NON-NLS-1$
+	private static final String SERVER = "server"; //$NON-NLS-1$
+	private static final String PHASE = "phase"; //$NON-NLS-1$
+	private static final String UPDATED_AT = "updatedAt"; //$NON-NLS-1$
+
+	private final File m_file;
+
+	public ScanCheckpoint(File file) {
+		m_file = file;
+	}
+
+	public File getFile() {
+		return m_file;
+	}
+
+	/**
+	 * Returns the scan to resume: the scan recorded for the same application and server, if its results have not been
+	 * processed yet.
+	 *
+	 * @param appId The application ID.
+	 * @param server The AppScan server url.
+	 * @return The ID of the scan to resume, or null if there is none.
+	 */
+	public String getResumableScan(String appId, String server) {
+		if (!m_file.isFile()) {
+			return null;
+		}
+		try {
+			JSONObject checkpoint = new JSONObject(new String(Files.readAllBytes(m_file.toPath()), StandardCharsets.UTF_8));
+			if (Phase.Submitted.name().equals(checkpoint.optString(PHASE)) && appId.equals(checkpoint.optString(APP_ID))
+					&& server.equals(checkpoint.optString(SERVER))) {
+				return checkpoint.optString(SCAN_ID, null);
+			}
+		} catch (IOException | JSONException e) {
+			logger.debug("Ignoring checkpoint " + m_file + ": " + e.getMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * Records the phase of a scan, replacing the previous checkpoint. Failures are logged and otherwise ignored: the
+	 * checkpoint only saves time on a retry.
+	 *
+	 * @param scan The scan.
+	 * @param appId The application ID.
+	 * @param server The AppScan server url.
+	 * @param phase The phase of the run.
+	 */
+	public void write(ScanHandle scan, String appId, String server, Phase phase) {
+		try {
+			JSONObject checkpoint = new JSONObject();
+			checkpoint.put(SCAN_ID, scan.getScanId());
+			checkpoint.put(SCAN_NAME, scan.getName());
+			checkpoint.put(APP_ID, appId);
+			checkpoint.put(SERVER, server);
+			checkpoint.put(PHASE, phase.name());
+			checkpoint.put(UPDATED_AT, System.currentTimeMillis());
+
+			Path target = m_file.getAbsoluteFile().toPath();
+			Files.createDirectories(target.getParent());
+			AtomicFile.write(target, AtomicFile.Permissions.Private, checkpoint.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException | JSONException e) {
+			logger.warn("Unable to write the checkpoint " + m_file + ": " + e.getMessage());
+		}
+	}
+}
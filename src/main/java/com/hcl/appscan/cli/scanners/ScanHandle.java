@@ -0,0 +1,65 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.scanners;
+
+import com.hcl.appscan.sdk.scan.IScan;
+import com.hcl.appscan.sdk.scan.IScanServiceProvider;
+
+/**
+ * A scan that has been submitted to the service: either one this process just created, or an existing scan that the
+ * process attaches to by its ID. Everything after submission (waiting, results, reports, logs) only needs this handle.
+ */
+public final class ScanHandle {
+
+	private final String m_scanId;
+	private final String m_name;
+	private final String m_type;
+	private final IScanServiceProvider m_serviceProvider;
+
+	public ScanHandle(String scanId, String name, String type, IScanServiceProvider serviceProvider) {
+		m_scanId = scanId;
+		m_name = name;
+		m_type = type;
+		m_serviceProvider = serviceProvider;
+	}
+
+	/**
+	 * @param scan A scan that has been run.
+	 * @return The handle of the scan.
+	 */
+	public static ScanHandle of(IScan scan) {
+		return new ScanHandle(scan.getScanId(), scan.getName(), scan.getType(), scan.getServiceProvider());
+	}
+
+	public String getScanId() {
+		return m_scanId;
+	}
+
+	public String getName() {
+		return m_name;
+	}
+
+	public String getType() {
+		return m_type;
+	}
+
+	public IScanServiceProvider getServiceProvider() {
+		return m_serviceProvider;
+	}
+}
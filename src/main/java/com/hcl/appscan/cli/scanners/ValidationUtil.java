@@ -18,24 +18,19 @@
 
 package com.hcl.appscan.cli.scanners;
 
+import com.hcl.appscan.cli.constants.CLIConstants;
+import com.hcl.appscan.cli.http.HttpTransport;
 import com.hcl.appscan.sdk.CoreConstants;
 import com.hcl.appscan.sdk.auth.IAuthenticationProvider;
-import com.hcl.appscan.sdk.http.HttpClient;
-import com.hcl.appscan.sdk.http.HttpResponse;
-import org.apache.wink.json4j.JSONArtifact;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
 
-import javax.net.ssl.*;
 import java.io.IOException;
 import java.net.HttpURLConnection;
-import java.net.Proxy;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.net.URL;
 
 /**
  * Provides scan service utilities.
@@ -51,18 +46,6 @@ public class ValidationUtil implements CoreConstants {
 	 * @return True if the url is valid. False is returned if the url is not valid, the request fails, or an exception occurs.
 	 */
 	public static boolean isValidUrl(String url, IAuthenticationProvider provider) {
-		return isValidUrl(url, provider, Proxy.NO_PROXY);
-	}
-	
-	/**
-	 * Checks if the given url is valid for scanning.
-	 * 
-	 * @param url The url to test.
-	 * @param provider The IAuthenticationProvider for authentication.
-	 * @param proxy The proxy to use for the connection.
-	 * @return True if the url is valid. False is returned if the url is not valid, the request fails, or an exception occurs.
-	 */
-	public static boolean isValidUrl(String url, IAuthenticationProvider provider, Proxy proxy) {
 		String request_url = provider.getServer() + API_IS_VALID_URL;
 
 		try {
@@ -70,15 +53,11 @@ public class ValidationUtil implements CoreConstants {
 			body.put(URL, url);
 			Map<String, String> request_headers = provider.getAuthorizationHeader(true);
 			request_headers.put("Content-type","application/json");
-			HttpClient client = new HttpClient(provider.getProxy(), provider.getacceptInvalidCerts());
-			HttpResponse response = client.post(request_url, request_headers, body.toString());
+			HttpResponse<String> response = HttpTransport.get().post(request_url, request_headers, body.toString(), provider.getacceptInvalidCerts());
 
-			if (response.isSuccess()) {
-				JSONArtifact responseContent = response.getResponseBodyAsJSON();
-				if (responseContent != null) {
-					JSONObject object = (JSONObject) responseContent;
-					return object.getBoolean(IS_VALID);
-				}
+			if (response.statusCode() >= 200 && response.statusCode() < 300) {
+				JSONObject object = new JSONObject(response.body());
+				return object.getBoolean(IS_VALID);
 			}
 		} catch (IOException | JSONException e) {
 			// Ignore and return false.
@@ -87,63 +66,33 @@ public class ValidationUtil implements CoreConstants {
 		return false;
 	}
 
-	public static boolean checkASoCConnectivity(String urlString,boolean allowUntrusted) {
+	/**
+	 * Checks if the given application exists.
+	 *
+	 * @param appId The ID of the application.
+	 * @param provider The IAuthenticationProvider for authentication.
+	 * @return False if the service reports that the application does not exist. True if it exists, or if the request fails,
+	 *         in which case the problem is reported when the scan is submitted.
+	 */
+	public static boolean applicationExists(String appId, IAuthenticationProvider provider) {
+		String request_url = provider.getServer() + String.format(CLIConstants.API_APP, URLEncoder.encode(appId, StandardCharsets.UTF_8));
 		try {
-			URL url = new URL(urlString);
-			HttpsURLConnection connection = (HttpsURLConnection) url.openConnection();
-			if((connection != null) && allowUntrusted) {
-				bypassSSL((HttpsURLConnection)connection);
-			}
-			assert connection != null;
-			connection.setRequestMethod("HEAD"); // Using the HEAD request method for a faster check
-			int responseCode = connection.getResponseCode();
-
-			if (responseCode == HttpURLConnection.HTTP_OK) {
-				return true;
-			} else {
-				return false;
-			}
-
-		} catch (Exception e) {
-			// Ignore and return false.
+			HttpResponse<String> response = HttpTransport.get().get(request_url, provider.getAuthorizationHeader(true), provider.getacceptInvalidCerts());
+			return response.statusCode() != HttpURLConnection.HTTP_NOT_FOUND && response.statusCode() != HttpURLConnection.HTTP_BAD_REQUEST;
+		} catch (IOException e) {
+			// Ignore and let the scan submission report the problem.
 		}
-		return false;
+		return true;
 	}
 
-	private static void bypassSSL(HttpsURLConnection conn)  {
-		conn.setHostnameVerifier(new HostnameVerifier() {
-			@Override
-			public boolean verify(String hostname, SSLSession session) {
-				return true;
-			}
-		});
-
-		TrustManager[] trustManagers = new TrustManager[] { new X509TrustManager() {
-
-			private X509Certificate[] x509Certificates = new X509Certificate[0];
-
-			@Override
-			public X509Certificate[] getAcceptedIssuers() {
-				return x509Certificates;
-			}
-
-			@Override
-			public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
-				// do nothing
-			}
-
-			@Override
-			public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
-				// do nothing
-			}
-		}};
-
+	public static boolean checkASoCConnectivity(String urlString,boolean allowUntrusted) {
 		try {
-			SSLContext context = SSLContext.getInstance("TLSv1.2"); //$NON-NLS-1$
-			context.init(null, trustManagers, null);
-			conn.setSSLSocketFactory(context.getSocketFactory());
-		} catch (NoSuchAlgorithmException | KeyManagementException e) {
-			//Ignore. The connection should fail.
+			// Using the HEAD request method for a faster check
+			int responseCode = HttpTransport.get().head(urlString, allowUntrusted).statusCode();
+			return responseCode == HttpURLConnection.HTTP_OK;
+		} catch (Exception e) {
+			// Ignore and return false.
 		}
+		return false;
 	}
 }
@@ -0,0 +1,105 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.utils;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * Replaces files atomically: the content is written to a file next to the target, which then replaces the target in a
+ * single rename, so readers never see a partial file.
+ */
+public final class AtomicFile {
+
+	/** The permissions of the written file. */
+	public enum Permissions {
+		/** Readable and writable by the owner only, for credentials and state private to the user. */
+		Private,
+		/** The default permissions of new files, for artifacts read by other users and tools. */
+		Default
+	}
+
+	/** Writes the content to the staged file, which already exists and is empty. */
+	public interface Content {
+		void writeTo(Path file) throws IOException;
+	}
+
+	private AtomicFile() {
+	}
+
+	/**
+	 * Writes a file atomically. The parent directory must exist.
+	 *
+	 * @param target The file to write.
+	 * @param permissions The permissions of the file.
+	 * @param content Writes the content.
+	 * @throws IOException If the file can not be written.
+	 */
+	public static void write(Path target, Permissions permissions, Content content) throws IOException {
+		Path staged = permissions == Permissions.Private
+				? Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp") //$NON-NLS-1$ //$NON-NLS-2$
+				: Files.createFile(newSibling(target, ".tmp")); //$NON-NLS-1$
+		try {
+			content.writeTo(staged);
+			replace(staged, target);
+		} finally {
+			Files.deleteIfExists(staged);
+		}
+	}
+
+	/**
+	 * Writes bytes to a file atomically. The parent directory must exist.
+	 *
+	 * @param target The file to write.
+	 * @param permissions The permissions of the file.
+	 * @param bytes The content.
+	 * @throws IOException If the file can not be written.
+	 */
+	public static void write(Path target, Permissions permissions, byte[] bytes) throws IOException {
+		write(target, permissions, file -> Files.write(file, bytes));
+	}
+
+	/**
+	 * @param target A file.
+	 * @param suffix The suffix of the sibling.
+	 * @return A path next to the target that no other writer uses. The file is not created.
+	 */
+	public static Path newSibling(Path target, String suffix) {
+		return target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + suffix); //$NON-NLS-1$
+	}
+
+	/**
+	 * Replaces the target with a complete file in the same directory, atomically where the file system supports it.
+	 *
+	 * @param source The complete file.
+	 * @param target The file to replace.
+	 * @throws IOException If the file can not be moved.
+	 */
+	public static void replace(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+package com.hcl.appscan.cli.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes rows of named text values, as JSON lines (one JSON object per line, without the null values) or as CSV with
+ * a header row.
+ */
+public abstract class RowWriter implements Closeable, Flushable {
+
+	protected final String[] m_columns;
+
+	RowWriter(String[] columns) {
+		m_columns = columns;
+	}
+
+	/**
+	 * @param values The values of the row, in the order of the columns. Null values are left empty.
+	 * @throws IOException If the row can not be written.
+	 */
+	public abstract void write(String[] values) throws IOException;
+
+	public static RowWriter jsonLines(Writer out, String[] columns) throws IOException {
+		return new JsonLinesWriter(out, columns);
+	}
+
+	public static RowWriter csv(Writer out, String[] columns) throws IOException {
+		return new CsvWriter(out, columns);
+	}
+
+	private static final class JsonLinesWriter extends RowWriter {
+
+		private final JsonGenerator m_generator;
+		private boolean m_written;
+
+		JsonLinesWriter(Writer out, String[] columns) throws IOException {
+			super(columns);
+			m_generator = new JsonFactory().createGenerator(out);
+			m_generator.setPrettyPrinter(new MinimalPrettyPrinter("\n")); //$NON-NLS-1$
+		}
+
+		@Override
+		public void write(String[] values) throws IOException {
+			m_generator.writeStartObject();
+			for (int i = 0; i < m_columns.length; i++) {
+				if (values[i] != null) {
+					m_generator.writeStringField(m_columns[i], values[i]);
+				}
+			}
+			m_generator.writeEndObject();
+			m_written = true;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			m_generator.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (m_written) {
+				m_generator.writeRaw('\n');
+			}
+			m_generator.close();
+		}
+	}
+
+	private static final class CsvWriter extends RowWriter {
+
+		private final Writer m_out;
+
+		CsvWriter(Writer out, String[] columns) throws IOException {
+			super(columns);
+			m_out = out;
+			write(columns);
+		}
+
+		@Override
+		public void write(String[] values) throws IOException {
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					m_out.write(',');
+				}
+				m_out.write(quote(values[i]));
+			}
+			m_out.write("\r\n"); //$NON-NLS-1$
+		}
+
+		// RFC 4180: fields with separators, quotes or line breaks are quoted, and quotes are doubled.
+		private static String quote(String value) {
+			if (value == null) {
+				return ""; //$NON-NLS-1$
+			}
+			if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+				return value;
+			}
+			return '"' + value.replace("\"", "\"\"") + '"'; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		@Override
+		public void flush() throws IOException {
+			m_out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			m_out.close();
+		}
+	}
+}
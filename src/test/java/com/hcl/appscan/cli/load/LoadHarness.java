@@ -0,0 +1,285 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.load;
+
+import ch.qos.logback.classic.Level;
+import com.hcl.appscan.cli.handlers.InvokeBatchScan;
+import com.hcl.appscan.cli.handlers.InvokeDynamicScan;
+import com.hcl.appscan.cli.stub.StubAppScanServer;
+import com.hcl.appscan.cli.stub.StubSettings;
+import com.hcl.appscan.cli.stub.StubStatistics;
+import org.apache.wink.json4j.JSONArray;
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static picocli.CommandLine.*;
+import static picocli.CommandLine.Help.*;
+
+/**
+ * Runs CLI workflows end to end against a {@link StubAppScanServer} in the same JVM, and reports the wall time, the
+ * requests the stub answered, the threads and the heap. Use it to measure changes to polling, backoff and downloads
+ * without a real service.
+ */
+@Command(name = "loadtest", sortOptions = false, mixinStandardHelpOptions = true,
+        description = "Runs concurrent invokedynamicscan workflows, or one invokebatchscan workflow, against a local stub of the AppScan service and reports the wall time, the requests, the threads and the heap.")
+public class LoadHarness implements Callable<Integer> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadHarness.class);
+
+    enum Workflow { dynamic, batch }
+
+    @Spec
+    Model.CommandSpec spec;
+
+    @Option(names = {"--workflow"}, defaultValue = "dynamic", description = "dynamic to run one invokedynamicscan per scan, batch to run one invokebatchscan with all the scans. Valid values: ${COMPLETION-CANDIDATES}.", showDefaultValue = Visibility.ALWAYS)
+    private Workflow workflow;
+
+    @Option(names = {"--scans"}, defaultValue = "10", description = "Number of scans.", showDefaultValue = Visibility.ALWAYS)
+    private int scans;
+
+    @Option(names = {"--concurrency"}, defaultValue = "10", description = "Number of scans in progress at the same time.", showDefaultValue = Visibility.ALWAYS)
+    private int concurrency;
+
+    @Option(names = {"--statusChecks"}, defaultValue = "3", description = "Number of status checks after which a scan is ready.", showDefaultValue = Visibility.ALWAYS)
+    private int statusChecks;
+
+    @Option(names = {"--issues"}, defaultValue = "10", description = "Number of issues of each scan.", showDefaultValue = Visibility.ALWAYS)
+    private int issues;
+
+    @Option(names = {"--latency"}, defaultValue = "0", paramLabel = "MS", description = "Time the stub waits before answering each request.", showDefaultValue = Visibility.ALWAYS)
+    private int latency;
+
+    @Option(names = {"--latencyJitter"}, defaultValue = "0", paramLabel = "MS", description = "Maximum random time added to the latency.", showDefaultValue = Visibility.ALWAYS)
+    private int latencyJitter;
+
+    @Option(names = {"--errorRate"}, defaultValue = "0", paramLabel = "FRACTION", description = "Fraction of API requests answered with 503.", showDefaultValue = Visibility.ALWAYS)
+    private double errorRate;
+
+    @Option(names = {"--throttleRate"}, defaultValue = "0", paramLabel = "FRACTION", description = "Fraction of API requests answered with 429.", showDefaultValue = Visibility.ALWAYS)
+    private double throttleRate;
+
+    @Option(names = {"--retryAfter"}, defaultValue = "1", paramLabel = "SECONDS", description = "Retry-After of the 429 responses.", showDefaultValue = Visibility.ALWAYS)
+    private int retryAfter;
+
+    @Option(names = {"--downloadRate"}, defaultValue = "0", paramLabel = "KB/S", description = "Rate at which reports and scan logs are sent. 0 for no limit.", showDefaultValue = Visibility.ALWAYS)
+    private int downloadRate;
+
+    @Option(names = {"--reportSize"}, defaultValue = "64", paramLabel = "KB", description = "Size of the reports.", showDefaultValue = Visibility.ALWAYS)
+    private int reportSize;
+
+    @Option(names = {"--scanLogSize"}, defaultValue = "256", paramLabel = "KB", description = "Size of the scan logs.", showDefaultValue = Visibility.ALWAYS)
+    private int scanLogSize;
+
+    @Option(names = {"--sampleInterval"}, defaultValue = "50", paramLabel = "MS", description = "Interval at which threads and heap are sampled.", showDefaultValue = Visibility.ALWAYS)
+    private int sampleInterval;
+
+    @Option(names = {"--output"}, paramLabel = "FILE", description = "Write the results as JSON to FILE.")
+    private File output;
+
+    @Option(names = {"--verbose"}, description = "Show the output of the CLI runs.")
+    private boolean verbose;
+
+    @Parameters(paramLabel = "OPTION", description = "Options passed to every scan, such as --pollInterval=1 or --skip=scanLog.")
+    private List<String> scanOptions = new ArrayList<>();
+
+    public static void main(String[] args) {
+        System.exit(new CommandLine(new LoadHarness()).setCaseInsensitiveEnumValuesAllowed(true)
+                .setUnmatchedOptionsArePositionalParams(true).execute(args));
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        if (scans < 1 || concurrency < 1 || statusChecks < 1 || sampleInterval < 1) {
+            throw new ParameterException(spec.commandLine(), "--scans, --concurrency, --statusChecks and --sampleInterval must be at least 1.");
+        }
+        if (!verbose) {
+            ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        }
+        StubSettings settings = new StubSettings()
+                .setStatusChecksUntilReady(statusChecks)
+                .setIssues(issues)
+                .setLatencyMs(latency)
+                .setLatencyJitterMs(latencyJitter)
+                .setErrorRate(errorRate)
+                .setThrottleRate(throttleRate)
+                .setRetryAfterSeconds(retryAfter)
+                .setDownloadBytesPerSecond(downloadRate * 1024)
+                .setReportBytes(reportSize * 1024)
+                .setScanLogBytes(scanLogSize * 1024);
+
+        try (StubAppScanServer server = new StubAppScanServer(settings)) {
+            server.start(0);
+            List<Run> runs;
+            long start;
+            long wallMs;
+            JSONObject resources = new JSONObject();
+            try (ResourceSampler sampler = new ResourceSampler(sampleInterval)) {
+                start = System.nanoTime();
+                runs = workflow == Workflow.dynamic ? runDynamic(server.getUrl()) : runBatch(server.getUrl());
+                wallMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                resources.put("threadsAtStart", sampler.getStartThreads());
+                resources.put("threadsPeak", sampler.getPeakThreads());
+                resources.put("threadsAtEnd", sampler.getThreads());
+                resources.put("heapUsedMaxBytes", sampler.getMaxHeapUsed());
+                resources.put("heapPoolsPeakBytes", sampler.getPeakHeapPools());
+            }
+            JSONObject results = results(runs, wallMs, resources, server.getStatistics());
+            System.out.println(results.toString(true));
+            if (output != null) {
+                Files.write(output.toPath(), results.toString(true).getBytes(StandardCharsets.UTF_8));
+            }
+            return runs.stream().mapToInt(run -> run.exitCode).max().orElse(0);
+        }
+    }
+
+    // One invokedynamicscan per scan, at most concurrency at a time, each with its own CommandLine as in separate
+    // processes.
+    private List<Run> runDynamic(String url) throws InterruptedException, java.util.concurrent.ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Run>> futures = new ArrayList<>();
+            for (int i = 1; i <= scans; i++) {
+                String name = "load-" + i;
+                List<String> args = new ArrayList<>(Arrays.asList(serviceOptions(url)));
+                args.add("--appId=app-1");
+                args.add("--scanName=" + name);
+                args.add("--target=" + url + "/");
+                args.addAll(scanOptions);
+                futures.add(executor.submit(() -> run(name, new InvokeDynamicScan(), args)));
+            }
+            List<Run> runs = new ArrayList<>();
+            for (Future<Run> future : futures) {
+                runs.add(future.get());
+            }
+            return runs;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // One invokebatchscan with a manifest of all the scans. Options given as "--name=value" become manifest defaults.
+    private List<Run> runBatch(String url) throws IOException, JSONException {
+        JSONObject defaults = new JSONObject();
+        defaults.put("appId", "app-1");
+        for (String option : scanOptions) {
+            int equals = option.indexOf('=');
+            if (!option.startsWith("--") || equals < 0) {
+                throw new ParameterException(spec.commandLine(), "Batch scan options must be given as --name=value: " + option);
+            }
+            defaults.put(option.substring(2, equals), option.substring(equals + 1));
+        }
+        JSONArray targets = new JSONArray();
+        for (int i = 1; i <= scans; i++) {
+            JSONObject target = new JSONObject();
+            target.put("scanName", "load-" + i);
+            target.put("target", url + "/");
+            targets.add(target);
+        }
+        JSONObject manifest = new JSONObject();
+        manifest.put("defaults", defaults);
+        manifest.put("targets", targets);
+        File file = File.createTempFile("load-manifest", ".json");
+        try {
+            Files.write(file.toPath(), manifest.toString().getBytes(StandardCharsets.UTF_8));
+            List<String> args = new ArrayList<>(Arrays.asList(serviceOptions(url)));
+            args.add("--manifest=" + file.getAbsolutePath());
+            args.add("--concurrency=" + concurrency);
+            args.add("--rateLimit=0");
+            return Collections.singletonList(run("batch", new InvokeBatchScan(), args));
+        } finally {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    private static String[] serviceOptions(String url) {
+        return new String[] {"--key=local_load", "--secret=load", "--serviceUrl=" + url};
+    }
+
+    private static Run run(String name, Object command, List<String> args) {
+        long start = System.nanoTime();
+        int exitCode = new CommandLine(command).setCaseInsensitiveEnumValuesAllowed(true).execute(args.toArray(new String[0]));
+        long wallMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("{} finished in {} ms with exit code {}", name, wallMs, exitCode);
+        return new Run(name, exitCode, wallMs);
+    }
+
+    private JSONObject results(List<Run> runs, long wallMs, JSONObject resources, StubStatistics statistics) throws JSONException {
+        JSONObject results = new JSONObject();
+        results.put("workflow", workflow.name());
+        results.put("scans", scans);
+        results.put("concurrency", concurrency);
+        results.put("wallMs", wallMs);
+
+        long[] times = runs.stream().mapToLong(run -> run.wallMs).sorted().toArray();
+        JSONObject runTimes = new JSONObject();
+        runTimes.put("min", times[0]);
+        runTimes.put("median", times[times.length / 2]);
+        runTimes.put("p95", times[(int) Math.ceil(times.length * 0.95) - 1]);
+        runTimes.put("max", times[times.length - 1]);
+        results.put("runWallMs", runTimes);
+
+        JSONObject exitCodes = new JSONObject();
+        for (Run run : runs) {
+            String code = Integer.toString(run.exitCode);
+            exitCodes.put(code, exitCodes.optInt(code, 0) + 1);
+        }
+        results.put("exitCodes", exitCodes);
+
+        JSONObject requests = new JSONObject();
+        requests.put("total", statistics.getTotalRequests());
+        requests.put("byEndpoint", new JSONObject(statistics.getRequests()));
+        JSONObject statuses = new JSONObject();
+        for (Map.Entry<Integer, Long> status : statistics.getStatuses().entrySet()) {
+            statuses.put(status.getKey().toString(), status.getValue());
+        }
+        requests.put("byStatus", statuses);
+        requests.put("bytesSent", statistics.getBytesSent());
+        requests.put("unmatched", new JSONArray(statistics.getUnmatched()));
+        results.put("requests", requests);
+        results.put("resources", resources);
+        return results;
+    }
+
+    private static class Run {
+        final String name;
+        final int exitCode;
+        final long wallMs;
+
+        Run(String name, int exitCode, long wallMs) {
+            this.name = name;
+            this.exitCode = exitCode;
+            this.wallMs = wallMs;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the live threads and the used heap of the JVM at a fixed interval and keeps the highest values.
+ */
+class ResourceSampler implements AutoCloseable {
+
+	private final ThreadMXBean m_threads = ManagementFactory.getThreadMXBean();
+	private final ScheduledExecutorService m_scheduler;
+	private final int m_startThreads;
+	private volatile int m_maxThreads;
+	private volatile long m_maxHeapUsed;
+
+	ResourceSampler(int intervalMs) {
+		m_threads.resetPeakThreadCount();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			pool.resetPeakUsage();
+		}
+		m_startThreads = m_threads.getThreadCount();
+		m_scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "resource-sampler"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		m_scheduler.scheduleAtFixedRate(this::sample, 0, intervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	private void sample() {
+		m_maxThreads = Math.max(m_maxThreads, m_threads.getThreadCount());
+		m_maxHeapUsed = Math.max(m_maxHeapUsed, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+	}
+
+	int getStartThreads() {
+		return m_startThreads;
+	}
+
+	int getThreads() {
+		return m_threads.getThreadCount();
+	}
+
+	/**
+	 * @return The highest number of live threads, as counted by the JVM rather than sampled.
+	 */
+	int getPeakThreads() {
+		return Math.max(m_maxThreads, m_threads.getPeakThreadCount());
+	}
+
+	/**
+	 * @return The highest sampled heap use, in bytes.
+	 */
+	long getMaxHeapUsed() {
+		return m_maxHeapUsed;
+	}
+
+	/**
+	 * @return The sum of the peak use of the heap memory pools, in bytes. It is an upper bound: the pools do not all
+	 *         peak at the same time.
+	 */
+	long getPeakHeapPools() {
+		long peak = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	@Override
+	public void close() {
+		sample();
+		m_scheduler.shutdownNow();
+	}
+}
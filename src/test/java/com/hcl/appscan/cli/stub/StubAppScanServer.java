@@ -0,0 +1,448 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * A local stand-in for the AppScan REST API, for testing the CLI without a real service or scan quota. It answers the
+ * requests the CLI makes: login, applications, presences, URL validation, scan creation and execution, scan details,
+ * issues, reports and scan logs. New scans are queued, then running, then ready after a number of status checks. The
+ * latency, the rate of 503 and 429 responses and the download rate come from {@link StubSettings}.
+ * <p>
+ * The scan scan-1 exists from the start and is ready. Run {@link #main(String[])} to start a stub on its own.
+ */
+public class StubAppScanServer implements Closeable {
+
+	private static final String API = "/api/v4/"; //$NON-NLS-1$
+	private static final String JSON = "application/json"; //$NON-NLS-1$
+	private static final int CHUNK = 8 * 1024;
+	private static final Pattern SCAN_NAME = Pattern.compile("\"(?:ScanName|Name)\"\\s*:\\s*\"([^\"]*)\""); //$NON-NLS-1$
+	private static final Pattern FILTER_ID = Pattern.compile("Id eq '?([^' )]+)"); //$NON-NLS-1$
+
+	private final StubSettings m_settings;
+	private final StubStatistics m_statistics = new StubStatistics();
+	private final Map<String, StubScan> m_scans = new ConcurrentHashMap<>();
+	private final AtomicInteger m_ids = new AtomicInteger(1);
+	private final byte[] m_report;
+	private final byte[] m_scanLog;
+	private HttpServer m_server;
+	private ExecutorService m_executor;
+
+	public StubAppScanServer(StubSettings settings) {
+		m_settings = settings;
+		m_report = report(settings.getReportBytes());
+		m_scanLog = scanLog(settings.getScanLogBytes());
+		// As if checked many times already, so ready at the first check.
+		m_scans.put("scan-1", new StubScan("scan-1", "stub", Integer.MAX_VALUE / 2)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Starts the server on the loopback address.
+	 *
+	 * @param port The port, or 0 for any free port.
+	 * @return The port the server listens on.
+	 * @throws IOException If the server can not be started.
+	 */
+	public int start(int port) throws IOException {
+		AtomicInteger threads = new AtomicInteger();
+		m_executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "stub-" + threads.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		m_server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 256);
+		m_server.setExecutor(m_executor);
+		m_server.createContext("/", this::handle); //$NON-NLS-1$
+		m_server.start();
+		return m_server.getAddress().getPort();
+	}
+
+	/**
+	 * @return The URL to pass to the CLI as --serviceUrl.
+	 */
+	public String getUrl() {
+		return "http://127.0.0.1:" + m_server.getAddress().getPort(); //$NON-NLS-1$
+	}
+
+	public StubStatistics getStatistics() {
+		return m_statistics;
+	}
+
+	@Override
+	public void close() {
+		if (m_server != null) {
+			m_server.stop(0);
+			m_executor.shutdownNow();
+		}
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			byte[] body = exchange.getRequestBody().readAllBytes();
+			String method = exchange.getRequestMethod();
+			String path = exchange.getRequestURI().getPath();
+			Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+			String endpoint = endpoint(method, path, query);
+			delay();
+
+			if (endpoint == null) {
+				m_statistics.recordUnmatched(method + " " + exchange.getRequestURI()); //$NON-NLS-1$
+				send(exchange, "unmatched", 404, JSON, json("{\"Message\":\"Not found\"}"), false); //$NON-NLS-1$ //$NON-NLS-2$
+				return;
+			}
+			if (path.startsWith(API)) {
+				double fault = ThreadLocalRandom.current().nextDouble();
+				if (fault < m_settings.getThrottleRate()) {
+					exchange.getResponseHeaders().set("Retry-After", Integer.toString(m_settings.getRetryAfterSeconds())); //$NON-NLS-1$
+					send(exchange, endpoint, 429, JSON, json("{\"Message\":\"Too many requests\"}"), false); //$NON-NLS-1$
+					return;
+				}
+				if (fault < m_settings.getThrottleRate() + m_settings.getErrorRate()) {
+					send(exchange, endpoint, 503, JSON, json("{\"Message\":\"Service unavailable\"}"), false); //$NON-NLS-1$
+					return;
+				}
+			}
+			respond(exchange, endpoint, method, path, query, new String(body, StandardCharsets.UTF_8));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// The name of the endpoint a request is for, or null if the stub does not simulate it.
+	private static String endpoint(String method, String path, Map<String, String> query) {
+		if (path.equals("/")) { //$NON-NLS-1$
+			return "ping"; //$NON-NLS-1$
+		}
+		if (!path.startsWith(API)) {
+			return null;
+		}
+		String resource = path.substring(API.length());
+		if (resource.equals("Account/ApiKeyLogin")) { //$NON-NLS-1$
+			return "login"; //$NON-NLS-1$
+		}
+		if (resource.startsWith("Account/")) { //$NON-NLS-1$
+			return "account"; //$NON-NLS-1$
+		}
+		if (resource.equals("Apps") || resource.equals("Presences")) { //$NON-NLS-1$ //$NON-NLS-2$
+			return resource.toLowerCase();
+		}
+		if (resource.startsWith("Apps/")) { //$NON-NLS-1$
+			return "app"; //$NON-NLS-1$
+		}
+		if (resource.startsWith("Presences/")) { //$NON-NLS-1$
+			return "presence"; //$NON-NLS-1$
+		}
+		if (resource.startsWith("FileUpload")) { //$NON-NLS-1$
+			return "fileUpload"; //$NON-NLS-1$
+		}
+		if (resource.startsWith("Issues/")) { //$NON-NLS-1$
+			return query.containsKey("$apply") ? "issueCounts" : "issues"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		if (resource.startsWith("Reports")) { //$NON-NLS-1$
+			if (method.equals("POST")) { //$NON-NLS-1$
+				return "reportCreate"; //$NON-NLS-1$
+			}
+			return resource.endsWith("/Download") ? "reportDownload" : "reportStatus"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		if (resource.equals("Scans/IsValidUrl")) { //$NON-NLS-1$
+			return "isValidUrl"; //$NON-NLS-1$
+		}
+		if (resource.startsWith("Scans/")) { //$NON-NLS-1$
+			String scan = resource.substring("Scans/".length()); //$NON-NLS-1$
+			if (scan.toLowerCase().contains("log")) { //$NON-NLS-1$
+				return "scanLog"; //$NON-NLS-1$
+			}
+			if (method.equals("POST")) { //$NON-NLS-1$
+				return scan.endsWith("/Executions") ? "scanExecute" : "scanCreate"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			if (scan.indexOf('/') < 0) {
+				return "scanDetails"; //$NON-NLS-1$
+			}
+		}
+		return null;
+	}
+
+	private void respond(HttpExchange exchange, String endpoint, String method, String path, Map<String, String> query, String body)
+			throws IOException, InterruptedException {
+		String id = path.substring(path.lastIndexOf('/') + 1);
+		switch (endpoint) {
+		case "ping": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, new byte[0], false);
+			break;
+		case "login": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json("{\"Token\":\"stub-token\",\"Expire\":\"2099-01-01T00:00:00Z\"}"), false); //$NON-NLS-1$
+			break;
+		case "account": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json("{\"TenantId\":\"stub\",\"TenantName\":\"Stub\"}"), false); //$NON-NLS-1$
+			break;
+		case "apps": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json(list(m_settings.getApplications(), StubAppScanServer::application, query)), false);
+			break;
+		case "app": //$NON-NLS-1$
+			sendItem(exchange, endpoint, id, "app-", m_settings.getApplications(), StubAppScanServer::application); //$NON-NLS-1$
+			break;
+		case "presences": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json(list(m_settings.getPresences(), StubAppScanServer::presence, query)), false);
+			break;
+		case "presence": //$NON-NLS-1$
+			sendItem(exchange, endpoint, id, "presence-", m_settings.getPresences(), StubAppScanServer::presence); //$NON-NLS-1$
+			break;
+		case "fileUpload": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json("{\"FileId\":\"file-" + m_ids.incrementAndGet() + "\"}"), false); //$NON-NLS-1$ //$NON-NLS-2$
+			break;
+		case "issues": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json(list(m_settings.getIssues(), StubAppScanServer::issue, query)), false);
+			break;
+		case "issueCounts": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json("{\"Items\":[{\"Severity\":\"High\",\"Status\":\"Open\",\"N\":" //$NON-NLS-1$
+					+ m_settings.getIssues() + "}],\"Count\":1}"), false); //$NON-NLS-1$
+			break;
+		case "isValidUrl": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json("{\"IsValid\":true}"), false); //$NON-NLS-1$
+			break;
+		case "scanCreate": //$NON-NLS-1$
+			StubScan scan = newScan(body);
+			send(exchange, endpoint, 200, JSON, json("{\"Id\":\"" + scan.getId() + "\"}"), false); //$NON-NLS-1$ //$NON-NLS-2$
+			break;
+		case "scanExecute": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json("{\"Id\":\"execution-" + m_ids.incrementAndGet() + "\"}"), false); //$NON-NLS-1$ //$NON-NLS-2$
+			break;
+		case "scanDetails": //$NON-NLS-1$
+			StubScan details = m_scans.get(id);
+			if (details == null) {
+				send(exchange, endpoint, 404, JSON, json("{\"Message\":\"Scan not found\"}"), false); //$NON-NLS-1$
+			} else {
+				send(exchange, endpoint, 200, JSON, json(details.check(m_settings.getStatusChecksUntilReady(), m_settings.getIssues())), false);
+			}
+			break;
+		case "reportCreate": //$NON-NLS-1$
+			send(exchange, endpoint, 200, JSON, json("{\"Id\":\"report-" + m_ids.incrementAndGet() + "\"}"), false); //$NON-NLS-1$ //$NON-NLS-2$
+			break;
+		case "reportStatus": //$NON-NLS-1$
+			sendReportStatus(exchange, endpoint, id, query);
+			break;
+		case "reportDownload": //$NON-NLS-1$
+			send(exchange, endpoint, 200, "text/html", m_report, true); //$NON-NLS-1$
+			break;
+		case "scanLog": //$NON-NLS-1$
+			send(exchange, endpoint, 200, "application/zip", m_scanLog, true); //$NON-NLS-1$
+			break;
+		default:
+			throw new IllegalStateException(endpoint);
+		}
+	}
+
+	private StubScan newScan(String body) {
+		String id = "scan-" + m_ids.incrementAndGet(); //$NON-NLS-1$
+		Matcher name = SCAN_NAME.matcher(body);
+		StubScan scan = new StubScan(id, name.find() ? name.group(1) : id, 0);
+		m_scans.put(id, scan);
+		return scan;
+	}
+
+	private void sendItem(HttpExchange exchange, String endpoint, String id, String prefix, int count, ItemFormat format) throws IOException, InterruptedException {
+		int index = index(id, prefix);
+		if (index < 1 || index > count) {
+			send(exchange, endpoint, 404, JSON, json("{\"Message\":\"Not found\"}"), false); //$NON-NLS-1$
+		} else {
+			send(exchange, endpoint, 200, JSON, json(format.format(index)), false);
+		}
+	}
+
+	private void sendReportStatus(HttpExchange exchange, String endpoint, String id, Map<String, String> query) throws IOException, InterruptedException {
+		String filter = query.get("$filter"); //$NON-NLS-1$
+		if (filter == null) {
+			send(exchange, endpoint, 200, JSON, json(report(id)), false);
+			return;
+		}
+		Matcher matcher = FILTER_ID.matcher(filter);
+		String report = report(matcher.find() ? matcher.group(1) : "report"); //$NON-NLS-1$
+		send(exchange, endpoint, 200, JSON, json("{\"Items\":[" + report + "],\"Count\":1}"), false); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	// Sends a response. Reports and scan logs are sent at the configured download rate.
+	private void send(HttpExchange exchange, String endpoint, int status, String contentType, byte[] body, boolean download)
+			throws IOException, InterruptedException {
+		exchange.getResponseHeaders().set("Content-Type", contentType); //$NON-NLS-1$
+		boolean head = exchange.getRequestMethod().equals("HEAD"); //$NON-NLS-1$
+		if (head || body.length == 0) {
+			exchange.sendResponseHeaders(status, -1);
+			m_statistics.record(endpoint, status, 0);
+			return;
+		}
+		exchange.sendResponseHeaders(status, body.length);
+		int rate = download ? m_settings.getDownloadBytesPerSecond() : 0;
+		long start = System.nanoTime();
+		try (OutputStream out = exchange.getResponseBody()) {
+			for (int offset = 0; offset < body.length; offset += CHUNK) {
+				int length = Math.min(CHUNK, body.length - offset);
+				out.write(body, offset, length);
+				if (rate > 0) {
+					out.flush();
+					long due = start + TimeUnit.SECONDS.toNanos(offset + length) / rate;
+					long wait = due - System.nanoTime();
+					if (wait > 0) {
+						TimeUnit.NANOSECONDS.sleep(wait);
+					}
+				}
+			}
+		}
+		m_statistics.record(endpoint, status, body.length);
+	}
+
+	private void delay() throws InterruptedException {
+		int latency = m_settings.getLatencyMs();
+		if (m_settings.getLatencyJitterMs() > 0) {
+			latency += ThreadLocalRandom.current().nextInt(m_settings.getLatencyJitterMs() + 1);
+		}
+		if (latency > 0) {
+			Thread.sleep(latency);
+		}
+	}
+
+	// A page of a list, in the shape the query asks for: an object with the items and the total count when $top or
+	// $count is given, otherwise an array of all the items.
+	private static String list(int count, ItemFormat format, Map<String, String> query) {
+		int skip = Integer.parseInt(query.getOrDefault("$skip", "0")); //$NON-NLS-1$ //$NON-NLS-2$
+		int top = Integer.parseInt(query.getOrDefault("$top", Integer.toString(count))); //$NON-NLS-1$
+		StringBuilder items = new StringBuilder("["); //$NON-NLS-1$
+		for (int index = skip + 1; index <= Math.min(count, skip + top); index++) {
+			if (index > skip + 1) {
+				items.append(',');
+			}
+			items.append(format.format(index));
+		}
+		items.append(']');
+		if ("true".equals(query.get("$count")) || query.containsKey("$top")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return "{\"Items\":" + items + ",\"Count\":" + count + "}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return items.toString();
+	}
+
+	private static String application(int index) {
+		return "{\"Id\":\"app-" + index + "\",\"Name\":\"Stub application " + index + "\"}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private static String presence(int index) {
+		return "{\"Id\":\"presence-" + index + "\",\"PresenceName\":\"Stub presence " + index + "\",\"Status\":\"Active\"}"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private static String issue(int index) {
+		return "{\"Id\":\"issue-" + index + "\",\"IssueType\":\"Cross-Site Scripting\",\"Severity\":\"High\",\"Status\":\"Open\"," //$NON-NLS-1$ //$NON-NLS-2$
+				+ "\"Cwe\":\"79\",\"Location\":\"/search?q=" + index + "\"}"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static String report(String id) {
+		return "{\"Id\":\"" + id + "\",\"Status\":\"Ready\",\"Progress\":100}"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static int index(String id, String prefix) {
+		try {
+			return id.startsWith(prefix) ? Integer.parseInt(id.substring(prefix.length())) : -1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static byte[] json(String body) {
+		return body.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] report(int size) {
+		byte[] report = new byte[size];
+		Arrays.fill(report, (byte) ' ');
+		byte[] html = "<html><body>Stub report</body></html>".getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+		System.arraycopy(html, 0, report, 0, Math.min(html.length, size));
+		return report;
+	}
+
+	// A zip of about the given size. Its content is random, so it does not compress.
+	private static byte[] scanLog(int size) {
+		byte[] content = new byte[size];
+		new Random(size).nextBytes(content);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(size + 512);
+		try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+			zip.putNextEntry(new ZipEntry("scan.log")); //$NON-NLS-1$
+			zip.write(content);
+			zip.closeEntry();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Map<String, String> parseQuery(String query) {
+		Map<String, String> values = new HashMap<>();
+		if (query != null) {
+			for (String pair : query.split("&")) { //$NON-NLS-1$
+				int equals = pair.indexOf('=');
+				String name = URLDecoder.decode(equals < 0 ? pair : pair.substring(0, equals), StandardCharsets.UTF_8);
+				values.put(name, equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8)); //$NON-NLS-1$
+			}
+		}
+		return values;
+	}
+
+	private interface ItemFormat {
+		String format(int index);
+	}
+
+	/**
+	 * Starts a stub with the default settings and prints "ready". Requests the stub does not simulate are printed as
+	 * "unhandled METHOD uri" when it stops.
+	 *
+	 * @param args The port, by default 18080.
+	 * @throws IOException If the server can not be started.
+	 */
+	public static void main(String[] args) throws IOException {
+		StubAppScanServer server = new StubAppScanServer(new StubSettings());
+		server.start(args.length > 0 ? Integer.parseInt(args[0]) : 18080);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			server.getStatistics().getUnmatched().forEach(request -> System.out.println("unhandled " + request)); //$NON-NLS-1$
+			server.close();
+		}));
+		System.out.println("ready"); //$NON-NLS-1$
+	}
+}
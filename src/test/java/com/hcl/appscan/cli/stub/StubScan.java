@@ -0,0 +1,68 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.stub;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A scan of a {@link StubAppScanServer}. Each status check moves it on: it is queued, then running, then ready.
+ */
+class StubScan {
+
+	private final String m_id;
+	private final String m_name;
+	private final AtomicInteger m_checks;
+
+	StubScan(String id, String name, int checks) {
+		m_id = id;
+		m_name = name;
+		m_checks = new AtomicInteger(checks);
+	}
+
+	String getId() {
+		return m_id;
+	}
+
+	/**
+	 * Counts a status check.
+	 *
+	 * @param checksUntilReady The number of checks after which the scan is ready.
+	 * @param issues The number of issues the scan finds.
+	 * @return The scan details.
+	 */
+	String check(int checksUntilReady, int issues) {
+		int check = m_checks.incrementAndGet();
+		String status;
+		int progress;
+		if (check >= checksUntilReady) {
+			status = "Ready"; //$NON-NLS-1$
+			progress = 100;
+		} else {
+			status = check == 1 ? "InQueue" : "Running"; //$NON-NLS-1$ //$NON-NLS-2$
+			progress = 100 * (check - 1) / checksUntilReady;
+		}
+		boolean ready = progress == 100;
+		return "{\"Id\":\"" + m_id + "\",\"Name\":\"" + m_name + "\",\"AppId\":\"app-1\",\"Technology\":\"DynamicAnalyzer\"," //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ "\"LatestExecution\":{\"Id\":\"" + m_id + "-execution\",\"Status\":\"" + status + "\",\"Progress\":" + progress //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ",\"ExecutionDurationSec\":" + Math.min(check, checksUntilReady) + ",\"NIssuesFound\":" + (ready ? issues : 0) //$NON-NLS-1$ //$NON-NLS-2$
+				+ ",\"NCriticalIssues\":0,\"NHighIssues\":" + (ready ? issues : 0) //$NON-NLS-1$
+				+ ",\"NMediumIssues\":0,\"NLowIssues\":0,\"NInfoIssues\":0}}"; //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.stub;
+
+/**
+ * The behaviour of a {@link StubAppScanServer}: the data it serves, how long scans take, and the faults it injects.
+ */
+public class StubSettings {
+
+	private int m_latencyMs;
+	private int m_latencyJitterMs;
+	private double m_errorRate;
+	private double m_throttleRate;
+	private int m_retryAfterSeconds = 1;
+	private int m_downloadBytesPerSecond;
+	private int m_reportBytes = 64 * 1024;
+	private int m_scanLogBytes = 256 * 1024;
+	private int m_statusChecksUntilReady = 3;
+	private int m_applications = 1;
+	private int m_presences = 1;
+	private int m_issues = 1;
+
+	public int getLatencyMs() {
+		return m_latencyMs;
+	}
+
+	/**
+	 * @param latencyMs The time every request waits before it is answered.
+	 * @return These settings.
+	 */
+	public StubSettings setLatencyMs(int latencyMs) {
+		m_latencyMs = latencyMs;
+		return this;
+	}
+
+	public int getLatencyJitterMs() {
+		return m_latencyJitterMs;
+	}
+
+	/**
+	 * @param latencyJitterMs The maximum random time added to the latency.
+	 * @return These settings.
+	 */
+	public StubSettings setLatencyJitterMs(int latencyJitterMs) {
+		m_latencyJitterMs = latencyJitterMs;
+		return this;
+	}
+
+	public double getErrorRate() {
+		return m_errorRate;
+	}
+
+	/**
+	 * @param errorRate The fraction (0 to 1) of API requests answered with 503.
+	 * @return These settings.
+	 */
+	public StubSettings setErrorRate(double errorRate) {
+		m_errorRate = errorRate;
+		return this;
+	}
+
+	public double getThrottleRate() {
+		return m_throttleRate;
+	}
+
+	/**
+	 * @param throttleRate The fraction (0 to 1) of API requests answered with 429 and a Retry-After header.
+	 * @return These settings.
+	 */
+	public StubSettings setThrottleRate(double throttleRate) {
+		m_throttleRate = throttleRate;
+		return this;
+	}
+
+	public int getRetryAfterSeconds() {
+		return m_retryAfterSeconds;
+	}
+
+	public StubSettings setRetryAfterSeconds(int retryAfterSeconds) {
+		m_retryAfterSeconds = retryAfterSeconds;
+		return this;
+	}
+
+	public int getDownloadBytesPerSecond() {
+		return m_downloadBytesPerSecond;
+	}
+
+	/**
+	 * @param downloadBytesPerSecond The rate at which reports and scan logs are sent, or 0 for no limit.
+	 * @return These settings.
+	 */
+	public StubSettings setDownloadBytesPerSecond(int downloadBytesPerSecond) {
+		m_downloadBytesPerSecond = downloadBytesPerSecond;
+		return this;
+	}
+
+	public int getReportBytes() {
+		return m_reportBytes;
+	}
+
+	public StubSettings setReportBytes(int reportBytes) {
+		m_reportBytes = reportBytes;
+		return this;
+	}
+
+	public int getScanLogBytes() {
+		return m_scanLogBytes;
+	}
+
+	public StubSettings setScanLogBytes(int scanLogBytes) {
+		m_scanLogBytes = scanLogBytes;
+		return this;
+	}
+
+	public int getStatusChecksUntilReady() {
+		return m_statusChecksUntilReady;
+	}
+
+	/**
+	 * @param statusChecksUntilReady The number of scan detail requests a new scan answers as queued or running before it
+	 *            is ready.
+	 * @return These settings.
+	 */
+	public StubSettings setStatusChecksUntilReady(int statusChecksUntilReady) {
+		m_statusChecksUntilReady = statusChecksUntilReady;
+		return this;
+	}
+
+	public int getApplications() {
+		return m_applications;
+	}
+
+	public StubSettings setApplications(int applications) {
+		m_applications = applications;
+		return this;
+	}
+
+	public int getPresences() {
+		return m_presences;
+	}
+
+	public StubSettings setPresences(int presences) {
+		m_presences = presences;
+		return this;
+	}
+
+	public int getIssues() {
+		return m_issues;
+	}
+
+	/**
+	 * @param issues The number of issues of every scan.
+	 * @return These settings.
+	 */
+	public StubSettings setIssues(int issues) {
+		m_issues = issues;
+		return this;
+	}
+}
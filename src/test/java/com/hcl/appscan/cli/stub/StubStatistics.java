@@ -0,0 +1,82 @@
+/*
+ *
+ * Copyright 2026 HCL America, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * /
+ */
+
+
+package com.hcl.appscan.cli.stub;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the requests a {@link StubAppScanServer} has answered, by endpoint and by response status.
+ */
+public class StubStatistics {
+
+	private final Map<String, LongAdder> m_requests = new ConcurrentHashMap<>();
+	private final Map<Integer, LongAdder> m_statuses = new ConcurrentHashMap<>();
+	private final Set<String> m_unmatched = new ConcurrentSkipListSet<>();
+	private final AtomicLong m_bytesSent = new AtomicLong();
+
+	void record(String endpoint, int status, long bytes) {
+		m_requests.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+		m_statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+		m_bytesSent.addAndGet(bytes);
+	}
+
+	void recordUnmatched(String request) {
+		m_unmatched.add(request);
+	}
+
+	/**
+	 * @return The number of requests by endpoint name, sorted by name.
+	 */
+	public Map<String, Long> getRequests() {
+		Map<String, Long> requests = new TreeMap<>();
+		m_requests.forEach((endpoint, count) -> requests.put(endpoint, count.sum()));
+		return requests;
+	}
+
+	/**
+	 * @return The number of responses by HTTP status.
+	 */
+	public Map<Integer, Long> getStatuses() {
+		Map<Integer, Long> statuses = new TreeMap<>();
+		m_statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+		return statuses;
+	}
+
+	public long getTotalRequests() {
+		return m_requests.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	public long getBytesSent() {
+		return m_bytesSent.get();
+	}
+
+	/**
+	 * @return The requests the stub does not simulate, as "METHOD path".
+	 */
+	public Set<String> getUnmatched() {
+		return m_unmatched;
+	}
+}